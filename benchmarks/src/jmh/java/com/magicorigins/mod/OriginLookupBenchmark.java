@@ -0,0 +1,89 @@
+package com.magicorigins.mod;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Benchmarks origin lookups by username and by UUID under concurrent readers
+ * 
+ * @author MagicOrigins Mod Team
+ * @version 1.0.0
+ */
+@State(Scope.Benchmark)
+@Threads(4)
+public class OriginLookupBenchmark {
+    
+    private static final Origin[] ORIGINS = OriginRegistry.values().toArray(new Origin[0]);
+    
+    @Param({"9", "5000"})
+    public int mappedPlayers;
+    
+    private String[] usernames;
+    private UUID[] uuids;
+    
+    @Setup(Level.Trial)
+    public void setUp() {
+        usernames = new String[mappedPlayers];
+        uuids = new UUID[mappedPlayers];
+        
+        Map<String, Origin> mappings = new HashMap<>(mappedPlayers * 2);
+        Map<String, UUID> knownUuids = new HashMap<>(mappedPlayers * 2);
+        for (int i = 0; i < mappedPlayers; i++) {
+            usernames[i] = "Player" + i;
+            uuids[i] = UUID.nameUUIDFromBytes(usernames[i].getBytes());
+            mappings.put(usernames[i], ORIGINS[i % ORIGINS.length]);
+            knownUuids.put(usernames[i].toLowerCase(Locale.ROOT), uuids[i]);
+        }
+        
+        PlayerOriginManager.replaceMappings(OriginMappings.resolve(mappings, knownUuids));
+        PlayerOriginManager.clearCache();
+        for (int i = 0; i < mappedPlayers; i++) {
+            PlayerOriginManager.cachePlayerOrigin(uuids[i], ORIGINS[i % ORIGINS.length]);
+        }
+    }
+    
+    /**
+     * Per-thread cursor so each reader walks the keys independently
+     */
+    @State(Scope.Thread)
+    public static class Cursor {
+        private int next;
+        
+        int next(int bound) {
+            int index = next;
+            next = index + 1 == bound ? 0 : index + 1;
+            return index;
+        }
+    }
+    
+    @Benchmark
+    public Origin getOriginForPlayer(Cursor cursor) {
+        return PlayerOriginManager.getOriginForPlayer(usernames[cursor.next(mappedPlayers)]);
+    }
+    
+    @Benchmark
+    public Origin getOriginForPlayerByUuid(Cursor cursor) {
+        int index = cursor.next(mappedPlayers);
+        return PlayerOriginManager.getOriginForPlayer(uuids[index], usernames[index]);
+    }
+    
+    @Benchmark
+    public Origin getOriginForUnmappedPlayer() {
+        return PlayerOriginManager.getOriginForPlayer("UnmappedPlayer");
+    }
+    
+    @Benchmark
+    public Origin getCachedOrigin(Cursor cursor) {
+        return PlayerOriginManager.getCachedOrigin(uuids[cursor.next(mappedPlayers)]);
+    }
+}
\ No newline at end of file
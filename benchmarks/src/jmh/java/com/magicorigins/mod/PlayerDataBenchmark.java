@@ -0,0 +1,60 @@
+package com.magicorigins.mod;
+
+import net.minecraft.nbt.CompoundTag;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Benchmarks player data get/set round-trips on the typed capability data,
+ * compared with the string-keyed NBT access it replaced
+ * 
+ * @author MagicOrigins Mod Team
+ * @version 1.0.0
+ */
+@State(Scope.Thread)
+public class PlayerDataBenchmark {
+    
+    private PlayerModData data;
+    private CompoundTag persistentData;
+    
+    @Setup(Level.Iteration)
+    public void setUp() {
+        data = new PlayerModData();
+        persistentData = new CompoundTag();
+        persistentData.put(PlayerDataHandler.MOD_DATA_KEY, PlayerDataHandler.writeModData(data));
+    }
+    
+    @Benchmark
+    public long typedPlaytimeRoundTrip() {
+        data.setPlaytime(data.getPlaytime() + 1);
+        return data.getPlaytime();
+    }
+    
+    @Benchmark
+    public int typedAbilityRoundTrip() {
+        data.setAbilityProgress(data.getAbilityProgress() + 0.01f);
+        data.setUnlockedAbilities(data.getUnlockedAbilities() + 1);
+        return data.getUnlockedAbilities();
+    }
+    
+    @Benchmark
+    public long progressCounterIncrement() {
+        return data.addProgressCounter(ProgressionTrigger.BLOCKS_MINED, 1L);
+    }
+    
+    @Benchmark
+    public long legacyNbtPlaytimeRoundTrip() {
+        CompoundTag modData = persistentData.getCompound(PlayerDataHandler.MOD_DATA_KEY);
+        modData.putLong(PlayerDataHandler.PLAYTIME_KEY, modData.getLong(PlayerDataHandler.PLAYTIME_KEY) + 1);
+        return persistentData.getCompound(PlayerDataHandler.MOD_DATA_KEY).getLong(PlayerDataHandler.PLAYTIME_KEY);
+    }
+    
+    @Benchmark
+    public CompoundTag serializeDirtyData() {
+        data.markDirty();
+        return PlayerDataHandler.writeModData(data);
+    }
+}
\ No newline at end of file
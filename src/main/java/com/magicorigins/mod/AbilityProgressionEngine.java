@@ -0,0 +1,316 @@
+package com.magicorigins.mod;
+
+import net.minecraft.network.chat.Component;
+import net.minecraft.server.level.ServerPlayer;
+import net.minecraft.tags.DamageTypeTags;
+import net.minecraft.world.entity.player.Player;
+import net.minecraftforge.event.TickEvent;
+import net.minecraftforge.event.entity.living.LivingDeathEvent;
+import net.minecraftforge.event.entity.living.LivingHurtEvent;
+import net.minecraftforge.event.level.BlockEvent;
+import net.minecraftforge.eventbus.api.EventPriority;
+import net.minecraftforge.eventbus.api.SubscribeEvent;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Drives ability progression from game events
+ * Each origin declares unlock rules; rules are indexed by origin and trigger so an event
+ * only evaluates the rules that listen for it
+ * Its event handlers are registered by {@link ModFeature#ABILITY_PROGRESSION} only while the feature is enabled
+ * 
+ * @author MagicOrigins Mod Team
+ * @version 1.0.0
+ */
+public class AbilityProgressionEngine {
+    
+    /**
+     * Progress percentage needed per unlocked ability
+     */
+    private static final float PROGRESS_PER_ABILITY = 100.0f / PlayerModData.MAX_UNLOCKED_ABILITIES;
+    
+    /**
+     * Interval in ticks between samples of tick-based triggers
+     */
+    private static final int SAMPLE_INTERVAL_TICKS = 20;
+    
+    /**
+     * Shared empty rule array for triggers an origin does not listen for
+     */
+    private static final ProgressionRule[] NO_RULES = new ProgressionRule[0];
+    
+    /**
+     * Rules per origin, indexed by origin id and then trigger ordinal
+     * Null for origins without rules
+     */
+    private static ProgressionRule[][][] rulesByOrigin = new ProgressionRule[0][][];
+    
+    /**
+     * Whether registration is closed; set once mod loading completes, after which the tables are only read
+     */
+    private static volatile boolean frozen = false;
+    
+    /**
+     * Whether any origin declares a rule for each trigger ordinal
+     */
+    private static final boolean[] TRIGGER_IN_USE = new boolean[ProgressionTrigger.COUNT];
+    
+    /**
+     * Ticks elapsed since the last sample of tick-based triggers
+     */
+    private static int ticksSinceSample = 0;
+    
+    /**
+     * Registers the built-in unlock rules for each origin
+     */
+    public static void registerDefaultRules() {
+        registerRules(OriginRegistry.WATER,
+            new ProgressionRule(ProgressionTrigger.TICKS_IN_WATER, 72_000L, 60.0f),
+            new ProgressionRule(ProgressionTrigger.PLAYTIME_MINUTES, 600L, 40.0f));
+        registerRules(OriginRegistry.NATURE,
+            new ProgressionRule(ProgressionTrigger.BLOCKS_MINED, 1_000L, 50.0f),
+            new ProgressionRule(ProgressionTrigger.PLAYTIME_MINUTES, 600L, 50.0f));
+        registerRules(OriginRegistry.SWAMP,
+            new ProgressionRule(ProgressionTrigger.MOBS_KILLED, 200L, 50.0f),
+            new ProgressionRule(ProgressionTrigger.TICKS_IN_WATER, 36_000L, 50.0f));
+        registerRules(OriginRegistry.STONE,
+            new ProgressionRule(ProgressionTrigger.BLOCKS_MINED, 5_000L, 70.0f),
+            new ProgressionRule(ProgressionTrigger.PLAYTIME_MINUTES, 600L, 30.0f));
+        registerRules(OriginRegistry.ECHO,
+            new ProgressionRule(ProgressionTrigger.MOBS_KILLED, 300L, 50.0f),
+            new ProgressionRule(ProgressionTrigger.PLAYTIME_MINUTES, 900L, 50.0f));
+        registerRules(OriginRegistry.FIRE,
+            new ProgressionRule(ProgressionTrigger.FIRE_DAMAGE_TAKEN, 500L, 60.0f),
+            new ProgressionRule(ProgressionTrigger.MOBS_KILLED, 200L, 40.0f));
+        registerRules(OriginRegistry.FROST,
+            new ProgressionRule(ProgressionTrigger.BLOCKS_MINED, 2_000L, 50.0f),
+            new ProgressionRule(ProgressionTrigger.PLAYTIME_MINUTES, 900L, 50.0f));
+        registerRules(OriginRegistry.AMPHIBIAN,
+            new ProgressionRule(ProgressionTrigger.TICKS_IN_WATER, 36_000L, 50.0f),
+            new ProgressionRule(ProgressionTrigger.MOBS_KILLED, 150L, 50.0f));
+        registerRules(OriginRegistry.SHADOW,
+            new ProgressionRule(ProgressionTrigger.MOBS_KILLED, 300L, 60.0f),
+            new ProgressionRule(ProgressionTrigger.PLAYTIME_MINUTES, 600L, 40.0f));
+        
+        MagicOriginsMod.LOGGER.info("Registered progression rules for {} origins", 
+            Arrays.stream(rulesByOrigin).filter(Objects::nonNull).count());
+    }
+    
+    /**
+     * Registers the unlock rules of an origin, replacing any previous rules
+     * Must be called during mod setup, before mod loading completes; safe to call from parallel setup work
+     * 
+     * @param origin The origin
+     * @param rules The origin's unlock rules
+     * @throws IllegalStateException If mod loading has already completed
+     */
+    public static synchronized void registerRules(Origin origin, ProgressionRule... rules) {
+        if (frozen) {
+            throw new IllegalStateException("Progression rules for " + origin + " registered after mod loading completed");
+        }
+        
+        List<List<ProgressionRule>> byTrigger = new ArrayList<>(ProgressionTrigger.COUNT);
+        for (int i = 0; i < ProgressionTrigger.COUNT; i++) {
+            byTrigger.add(new ArrayList<>());
+        }
+        for (ProgressionRule rule : rules) {
+            byTrigger.get(rule.trigger().ordinal()).add(rule);
+        }
+        
+        ProgressionRule[][] index = new ProgressionRule[ProgressionTrigger.COUNT][];
+        for (int i = 0; i < ProgressionTrigger.COUNT; i++) {
+            List<ProgressionRule> triggerRules = byTrigger.get(i);
+            index[i] = triggerRules.isEmpty() ? NO_RULES : triggerRules.toArray(NO_RULES);
+        }
+        if (origin.getId() >= rulesByOrigin.length) {
+            rulesByOrigin = Arrays.copyOf(rulesByOrigin, origin.getId() + 1);
+        }
+        rulesByOrigin[origin.getId()] = index;
+        
+        rebuildTriggerUsage();
+    }
+    
+    /**
+     * Closes registration so the rule tables stay fixed while players are online
+     */
+    public static void freeze() {
+        frozen = true;
+    }
+    
+    /**
+     * Counts broken blocks
+     * Runs last so cancellations by other handlers are respected
+     * 
+     * @param event The BreakEvent
+     */
+    @SubscribeEvent(priority = EventPriority.LOWEST)
+    public static void onBlockBreak(BlockEvent.BreakEvent event) {
+        if (TRIGGER_IN_USE[ProgressionTrigger.BLOCKS_MINED.ordinal()]
+                && event.getPlayer() instanceof ServerPlayer serverPlayer) {
+            record(serverPlayer, ProgressionTrigger.BLOCKS_MINED, 1L);
+        }
+    }
+    
+    /**
+     * Counts non-player entities killed by a player
+     * 
+     * @param event The LivingDeathEvent
+     */
+    @SubscribeEvent(priority = EventPriority.LOWEST)
+    public static void onLivingDeath(LivingDeathEvent event) {
+        if (TRIGGER_IN_USE[ProgressionTrigger.MOBS_KILLED.ordinal()]
+                && event.getSource().getEntity() instanceof ServerPlayer killer
+                && !(event.getEntity() instanceof Player)) {
+            record(killer, ProgressionTrigger.MOBS_KILLED, 1L);
+        }
+    }
+    
+    /**
+     * Counts fire damage taken by players
+     * 
+     * @param event The LivingHurtEvent
+     */
+    @SubscribeEvent(priority = EventPriority.LOWEST)
+    public static void onLivingHurt(LivingHurtEvent event) {
+        if (TRIGGER_IN_USE[ProgressionTrigger.FIRE_DAMAGE_TAKEN.ordinal()]
+                && event.getEntity() instanceof ServerPlayer serverPlayer
+                && event.getSource().is(DamageTypeTags.IS_FIRE)) {
+            record(serverPlayer, ProgressionTrigger.FIRE_DAMAGE_TAKEN, (long) Math.ceil(event.getAmount()));
+        }
+    }
+    
+    /**
+     * Samples tick-based triggers once per second
+     * 
+     * @param event The ServerTickEvent
+     */
+    @SubscribeEvent
+    public static void onServerTick(TickEvent.ServerTickEvent event) {
+        if (event.phase != TickEvent.Phase.END || ++ticksSinceSample < SAMPLE_INTERVAL_TICKS) {
+            return;
+        }
+        ticksSinceSample = 0;
+        
+        if (!TRIGGER_IN_USE[ProgressionTrigger.TICKS_IN_WATER.ordinal()]) {
+            return;
+        }
+        
+        for (ServerPlayer player : event.getServer().getPlayerList().getPlayers()) {
+            if (PlayerEnvironment.get(player).isInWater()) {
+                record(player, ProgressionTrigger.TICKS_IN_WATER, SAMPLE_INTERVAL_TICKS);
+            }
+        }
+    }
+    
+    /**
+     * Records progress for a trigger and evaluates only the rules listening for it
+     * 
+     * @param player The server player
+     * @param trigger The trigger that fired
+     * @param amount Amount to add to the player's counter
+     */
+    public static void record(ServerPlayer player, ProgressionTrigger trigger, long amount) {
+        int ordinal = trigger.ordinal();
+        if (!TRIGGER_IN_USE[ordinal] || amount <= 0) {
+            return;
+        }
+        
+        ProgressionRule[][] originRules = getRules(OriginAssignmentHandler.getCachedPlayerOrigin(player));
+        if (originRules == null || originRules[ordinal].length == 0) {
+            return;
+        }
+        
+        PlayerModData data = PlayerDataHandler.getData(player);
+        long before = data.getProgressCounter(trigger);
+        long after = data.addProgressCounter(trigger, amount);
+        
+        float delta = 0.0f;
+        for (ProgressionRule rule : originRules[ordinal]) {
+            if (before < rule.goal()) {
+                delta += rule.contribution(after) - rule.contribution(before);
+            }
+        }
+        
+        if (delta != 0.0f) {
+            applyProgress(player, data, data.getAbilityProgress() + delta);
+        }
+    }
+    
+    /**
+     * Recomputes a player's progress from their counters, for example after an origin change
+     * 
+     * @param player The server player
+     */
+    public static void recompute(ServerPlayer player) {
+        PlayerModData data = PlayerDataHandler.getData(player);
+        ProgressionRule[][] originRules = getRules(OriginAssignmentHandler.getCachedPlayerOrigin(player));
+        
+        float progress = 0.0f;
+        if (originRules != null) {
+            for (ProgressionTrigger trigger : ProgressionTrigger.values()) {
+                long counter = data.getProgressCounter(trigger);
+                for (ProgressionRule rule : originRules[trigger.ordinal()]) {
+                    progress += rule.contribution(counter);
+                }
+            }
+        }
+        
+        applyProgress(player, data, progress);
+    }
+    
+    /**
+     * Stores a new progress value and updates the unlocked ability count
+     * 
+     * @param player The server player
+     * @param data The player's mod data
+     * @param progress The new progress percentage
+     */
+    private static void applyProgress(ServerPlayer player, PlayerModData data, float progress) {
+        float clamped = Math.max(0.0f, Math.min(100.0f, progress));
+        data.setAbilityProgress(clamped);
+        
+        // Small epsilon so accumulated float error does not hold back the last unlock
+        int unlocked = (int) ((clamped + 0.001f) / PROGRESS_PER_ABILITY);
+        int previous = data.getUnlockedAbilities();
+        data.setUnlockedAbilities(unlocked);
+        OriginSyncManager.markDirty(player);
+        
+        if (data.getUnlockedAbilities() > previous) {
+            MagicOriginsMod.LOGGER.info("Player '{}' unlocked ability {} of {}", 
+                player.getGameProfile().getName(), data.getUnlockedAbilities(),
+                PlayerModData.MAX_UNLOCKED_ABILITIES);
+            player.sendSystemMessage(Component.literal("You unlocked a new origin ability! ("
+                + data.getUnlockedAbilities() + "/" + PlayerModData.MAX_UNLOCKED_ABILITIES + ")"));
+        }
+    }
+    
+    /**
+     * Gets the rules of an origin, indexed by trigger ordinal
+     * 
+     * @param origin The origin, or null
+     * @return The rules, or null if the origin has none
+     */
+    private static ProgressionRule[][] getRules(Origin origin) {
+        ProgressionRule[][][] rules = rulesByOrigin;
+        return origin != null && origin.getId() < rules.length ? rules[origin.getId()] : null;
+    }
+    
+    /**
+     * Recomputes which triggers have at least one listening rule
+     */
+    private static void rebuildTriggerUsage() {
+        for (int i = 0; i < ProgressionTrigger.COUNT; i++) {
+            boolean inUse = false;
+            for (ProgressionRule[][] originRules : rulesByOrigin) {
+                if (originRules != null && originRules[i].length > 0) {
+                    inUse = true;
+                    break;
+                }
+            }
+            TRIGGER_IN_USE[i] = inUse;
+        }
+    }
+}
\ No newline at end of file
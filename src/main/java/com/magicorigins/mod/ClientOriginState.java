@@ -0,0 +1,136 @@
+package com.magicorigins.mod;
+
+import it.unimi.dsi.fastutil.ints.Int2ObjectOpenHashMap;
+import net.minecraft.client.Minecraft;
+import net.minecraftforge.api.distmarker.Dist;
+import net.minecraftforge.client.event.ClientPlayerNetworkEvent;
+import net.minecraftforge.event.entity.EntityLeaveLevelEvent;
+import net.minecraftforge.eventbus.api.SubscribeEvent;
+import net.minecraftforge.fml.common.Mod;
+
+/**
+ * Client-side store of the origin and progression state received from the server
+ * Keyed by entity id; the local player's entry holds every field, other players only their origin.
+ * Must only be used from the client main thread
+ * 
+ * @author MagicOrigins Mod Team
+ * @version 1.0.0
+ */
+@Mod.EventBusSubscriber(modid = MagicOriginsMod.MOD_ID, value = Dist.CLIENT)
+public class ClientOriginState {
+    
+    /**
+     * Known state by entity id
+     */
+    private static final Int2ObjectOpenHashMap<Entry> ENTRIES = new Int2ObjectOpenHashMap<>();
+    
+    /**
+     * Origin and progression state of one player as known to the client
+     */
+    public static final class Entry {
+        private String origin = "";
+        private long playtime;
+        private float abilityProgress;
+        private int unlockedAbilities;
+        
+        /**
+         * Gets the origin
+         * 
+         * @return The origin type, or an empty string if none
+         */
+        public String getOrigin() {
+            return origin;
+        }
+        
+        /**
+         * Gets the playtime
+         * 
+         * @return Playtime in minutes
+         */
+        public long getPlaytime() {
+            return playtime;
+        }
+        
+        /**
+         * Gets the ability progress
+         * 
+         * @return Progress as a percentage (0.0 to 100.0)
+         */
+        public float getAbilityProgress() {
+            return abilityProgress;
+        }
+        
+        /**
+         * Gets the number of unlocked abilities
+         * 
+         * @return Number of unlocked abilities (0-3)
+         */
+        public int getUnlockedAbilities() {
+            return unlockedAbilities;
+        }
+    }
+    
+    /**
+     * Applies a received delta
+     * 
+     * @param packet The received packet
+     */
+    static void apply(OriginStatePacket packet) {
+        Entry entry = ENTRIES.computeIfAbsent(packet.getEntityId(), id -> new Entry());
+        int mask = packet.getMask();
+        if ((mask & OriginStatePacket.ORIGIN) != 0) {
+            entry.origin = packet.getOrigin();
+        }
+        if ((mask & OriginStatePacket.PLAYTIME) != 0) {
+            entry.playtime = packet.getPlaytime();
+        }
+        if ((mask & OriginStatePacket.ABILITY_PROGRESS) != 0) {
+            entry.abilityProgress = packet.getAbilityProgress();
+        }
+        if ((mask & OriginStatePacket.UNLOCKED_ABILITIES) != 0) {
+            entry.unlockedAbilities = packet.getUnlockedAbilities();
+        }
+    }
+    
+    /**
+     * Gets the known state of a player entity
+     * 
+     * @param entityId The player's entity id
+     * @return The known state, or null if nothing was received
+     */
+    public static Entry get(int entityId) {
+        return ENTRIES.get(entityId);
+    }
+    
+    /**
+     * Gets the known state of the local player
+     * 
+     * @return The local player's state, or null if nothing was received
+     */
+    public static Entry getLocal() {
+        Minecraft minecraft = Minecraft.getInstance();
+        return minecraft.player != null ? ENTRIES.get(minecraft.player.getId()) : null;
+    }
+    
+    /**
+     * Forgets the state of player entities that leave the client level
+     * 
+     * @param event The EntityLeaveLevelEvent
+     */
+    @SubscribeEvent
+    public static void onEntityLeave(EntityLeaveLevelEvent event) {
+        if (event.getLevel().isClientSide() && event.getEntity() != Minecraft.getInstance().player) {
+            ENTRIES.remove(event.getEntity().getId());
+        }
+    }
+    
+    /**
+     * Clears all state when disconnecting
+     * 
+     * @param event The LoggingOut event
+     */
+    @SubscribeEvent
+    public static void onLoggingOut(ClientPlayerNetworkEvent.LoggingOut event) {
+        ENTRIES.clear();
+    }
+}
\ No newline at end of file
@@ -0,0 +1,228 @@
+package com.magicorigins.mod;
+
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.objects.ObjectIterator;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.util.Mth;
+import net.minecraft.world.entity.item.ItemEntity;
+import net.minecraft.world.item.ItemStack;
+import net.minecraft.world.level.ChunkPos;
+import net.minecraftforge.event.TickEvent;
+import net.minecraftforge.event.level.LevelEvent;
+import net.minecraftforge.event.server.ServerStoppedEvent;
+import net.minecraftforge.event.server.ServerStoppingEvent;
+import net.minecraftforge.eventbus.api.SubscribeEvent;
+import net.minecraftforge.fml.common.Mod;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.Map;
+
+/**
+ * Coalesces the mod's injected loot drops before they are spawned
+ * Drops are held per chunk for a short tick window; a drop of the same item within the
+ * configured radius of a held stack is merged into it instead of becoming a new item entity.
+ * All methods must be called from the server thread
+ * 
+ * @author MagicOrigins Mod Team
+ * @version 1.0.0
+ */
+@Mod.EventBusSubscriber(modid = MagicOriginsMod.MOD_ID)
+public class DropCoalescer {
+    
+    /**
+     * Held drops per level, bucketed by chunk position
+     */
+    private static final Map<ServerLevel, Long2ObjectOpenHashMap<ArrayList<PendingDrop>>> PENDING = new IdentityHashMap<>();
+    
+    /**
+     * Number of held stacks across all levels
+     */
+    private static int pendingCount = 0;
+    
+    /**
+     * A held stack waiting to be spawned at its anchor position
+     */
+    private static final class PendingDrop {
+        private final double x;
+        private final double y;
+        private final double z;
+        private final ItemStack stack;
+        private final int spawnTick;
+        
+        private PendingDrop(double x, double y, double z, ItemStack stack, int spawnTick) {
+            this.x = x;
+            this.y = y;
+            this.z = z;
+            this.stack = stack;
+            this.spawnTick = spawnTick;
+        }
+        
+        private boolean canMerge(ItemStack other, double ox, double oy, double oz, double radiusSq) {
+            if (stack.getCount() >= stack.getMaxStackSize() || !ItemStack.isSameItemSameTags(stack, other)) {
+                return false;
+            }
+            double dx = ox - x;
+            double dy = oy - y;
+            double dz = oz - z;
+            return dx * dx + dy * dy + dz * dz <= radiusSq;
+        }
+    }
+    
+    /**
+     * Submits a drop to be spawned at the given position
+     * The drop is spawned immediately if coalescing is disabled
+     * 
+     * @param level The level to spawn in
+     * @param x Drop X coordinate
+     * @param y Drop Y coordinate
+     * @param z Drop Z coordinate
+     * @param stack The stack to drop; ownership passes to the coalescer
+     */
+    public static void submit(ServerLevel level, double x, double y, double z, ItemStack stack) {
+        int window = MagicOriginsConfig.dropCoalesceWindowTicks;
+        if (window <= 0) {
+            spawn(level, x, y, z, stack);
+            return;
+        }
+        
+        long chunk = ChunkPos.asLong(Mth.floor(x) >> 4, Mth.floor(z) >> 4);
+        ArrayList<PendingDrop> bucket = PENDING
+            .computeIfAbsent(level, key -> new Long2ObjectOpenHashMap<>())
+            .computeIfAbsent(chunk, key -> new ArrayList<>(4));
+        
+        double radius = MagicOriginsConfig.dropCoalesceRadius;
+        for (PendingDrop pending : bucket) {
+            if (pending.canMerge(stack, x, y, z, radius * radius)) {
+                int moved = Math.min(stack.getCount(), pending.stack.getMaxStackSize() - pending.stack.getCount());
+                pending.stack.grow(moved);
+                stack.shrink(moved);
+                if (stack.isEmpty()) {
+                    ModMetrics.LOOT_DROPS_COALESCED.increment();
+                    return;
+                }
+            }
+        }
+        
+        // Hold the remainder as new stacks, split so no held stack exceeds its max size
+        int spawnTick = level.getServer().getTickCount() + window;
+        while (!stack.isEmpty()) {
+            bucket.add(new PendingDrop(x, y, z, stack.split(stack.getMaxStackSize()), spawnTick));
+            pendingCount++;
+        }
+    }
+    
+    /**
+     * Gets the number of held stacks waiting to be spawned
+     * 
+     * @return Number of held stacks
+     */
+    public static int getPendingCount() {
+        return pendingCount;
+    }
+    
+    /**
+     * Spawns held stacks whose window has elapsed at the end of each tick
+     * 
+     * @param event The ServerTickEvent
+     */
+    @SubscribeEvent
+    public static void onServerTick(TickEvent.ServerTickEvent event) {
+        if (event.phase != TickEvent.Phase.END || pendingCount == 0) {
+            return;
+        }
+        
+        int tick = event.getServer().getTickCount();
+        for (Map.Entry<ServerLevel, Long2ObjectOpenHashMap<ArrayList<PendingDrop>>> entry : PENDING.entrySet()) {
+            ServerLevel level = entry.getKey();
+            ObjectIterator<Long2ObjectMap.Entry<ArrayList<PendingDrop>>> buckets = entry.getValue().long2ObjectEntrySet().fastIterator();
+            while (buckets.hasNext()) {
+                ArrayList<PendingDrop> bucket = buckets.next().getValue();
+                Iterator<PendingDrop> drops = bucket.iterator();
+                while (drops.hasNext()) {
+                    PendingDrop pending = drops.next();
+                    if (pending.spawnTick - tick <= 0) {
+                        drops.remove();
+                        pendingCount--;
+                        spawn(level, pending.x, pending.y, pending.z, pending.stack);
+                    }
+                }
+                if (bucket.isEmpty()) {
+                    buckets.remove();
+                }
+            }
+        }
+    }
+    
+    /**
+     * Spawns every held stack before the levels are saved on shutdown
+     * 
+     * @param event The ServerStoppingEvent
+     */
+    @SubscribeEvent
+    public static void onServerStopping(ServerStoppingEvent event) {
+        flushAll();
+    }
+    
+    /**
+     * Spawns held stacks of a level that is being unloaded, so no drop is lost with the level
+     * 
+     * @param event The LevelEvent.Unload
+     */
+    @SubscribeEvent
+    public static void onLevelUnload(LevelEvent.Unload event) {
+        if (event.getLevel() instanceof ServerLevel level) {
+            Long2ObjectOpenHashMap<ArrayList<PendingDrop>> buckets = PENDING.remove(level);
+            if (buckets != null) {
+                flushLevel(level, buckets);
+            }
+        }
+    }
+    
+    /**
+     * Clears held state once the server has stopped
+     * 
+     * @param event The ServerStoppedEvent
+     */
+    @SubscribeEvent
+    public static void onServerStopped(ServerStoppedEvent event) {
+        PENDING.clear();
+        pendingCount = 0;
+    }
+    
+    /**
+     * Spawns every held stack immediately
+     */
+    public static void flushAll() {
+        PENDING.forEach(DropCoalescer::flushLevel);
+        PENDING.clear();
+        pendingCount = 0;
+    }
+    
+    /**
+     * Spawns the held stacks of one level; the caller removes the buckets from the pending map
+     * 
+     * @param level The level the stacks belong to
+     * @param buckets The level's held stacks by chunk
+     */
+    private static void flushLevel(ServerLevel level, Long2ObjectOpenHashMap<ArrayList<PendingDrop>> buckets) {
+        for (ArrayList<PendingDrop> bucket : buckets.values()) {
+            for (PendingDrop pending : bucket) {
+                spawn(level, pending.x, pending.y, pending.z, pending.stack);
+            }
+            pendingCount -= bucket.size();
+        }
+    }
+    
+    private static void spawn(ServerLevel level, double x, double y, double z, ItemStack stack) {
+        try {
+            ItemEntity itemEntity = new ItemEntity(level, x, y, z, stack);
+            itemEntity.setDefaultPickUpDelay();
+            level.addFreshEntity(itemEntity);
+        } catch (Exception e) {
+            MagicOriginsMod.LOGGER.error("Failed to spawn coalesced drop {}: {}", stack, e.getMessage());
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,109 @@
+package com.magicorigins.mod;
+
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.world.entity.LivingEntity;
+import net.minecraft.world.entity.item.ItemEntity;
+import net.minecraft.world.entity.player.Player;
+import net.minecraft.world.item.ItemStack;
+import net.minecraft.world.level.Level;
+import net.minecraftforge.event.entity.living.LivingDropsEvent;
+import net.minecraftforge.eventbus.api.EventPriority;
+import net.minecraftforge.eventbus.api.SubscribeEvent;
+
+/**
+ * Handles entity loot drops modification for any entity type
+ * Applies the datapack loot rules loaded by EntityLootRuleManager;
+ * the bundled rule makes Wardens drop Totem of Undying with 100% chance
+ * Registered by {@link ModFeature#LOOT_RULES} only while loot rules are enabled
+ * 
+ * @author MagicOrigins Mod Team
+ * @version 1.0.0
+ */
+public class EntityLootHandler {
+    
+    /**
+     * Handles mob death events to add rule-based loot drops
+     * Deaths of entity types without rules cost a single identity lookup. Runs last, and the event bus
+     * skips listeners for canceled events, so drops canceled by another mod are never handed to the
+     * coalescer, which would spawn them regardless
+     * 
+     * @param event The LivingDropsEvent containing drop information
+     */
+    @SubscribeEvent(priority = EventPriority.LOWEST)
+    public static void onLivingDrops(LivingDropsEvent event) {
+        // Check if the entity that died has any loot rules
+        LivingEntity entity = event.getEntity();
+        EntityLootRule[] rules = dispatch(EntityLootRuleManager.getRuleTable(), entity.getType());
+        if (rules == null) {
+            return; // Only handle entity types with rules
+        }
+        
+        Level level = entity.level();
+        if (level.isClientSide()) {
+            return; // Only handle server-side
+        }
+        
+        long start = System.nanoTime();
+        ModJfrEvents.Loot lootEvent = ModJfrEvents.beginLoot();
+        boolean coalesce = MagicOriginsConfig.dropCoalesceWindowTicks > 0;
+        int drops = 0;
+        String outcome = "failed";
+        try {
+            boolean killedByPlayer = event.getSource().getEntity() instanceof Player;
+            ServerLevel serverLevel = (ServerLevel) level;
+            
+            for (EntityLootRule rule : rules) {
+                if (rule.killedByPlayer() && !killedByPlayer) {
+                    continue;
+                }
+                
+                int count = rule.rollCount(entity.getRandom(), event.getLootingLevel());
+                if (count <= 0) {
+                    continue;
+                }
+                
+                // Hand the drop to the coalescer when enabled, otherwise add it to the drops list
+                // split so no item entity exceeds the item's max stack size
+                ItemStack stack = new ItemStack(rule.item(), count);
+                if (coalesce) {
+                    DropCoalescer.submit(serverLevel, entity.getX(), entity.getY(), entity.getZ(), stack);
+                } else {
+                    while (!stack.isEmpty()) {
+                        event.getDrops().add(new ItemEntity(level, entity.getX(), entity.getY(), entity.getZ(),
+                            stack.split(stack.getMaxStackSize())));
+                    }
+                }
+                ModMetrics.LOOT_DROPS.increment();
+                drops++;
+                
+                MagicOriginsMod.LOGGER.debug("Added {}x {} to {} drops", count, rule.item(), entity.getType());
+            }
+            outcome = "applied";
+        
+        } catch (Exception e) {
+            MagicOriginsMod.LOGGER.error("Failed to add loot rule drops for {}: {}", entity.getType(), e.getMessage());
+        } finally {
+            ModMetrics.LOOT_LATENCY.recordSince(start);
+            ModJfrEvents.finish(lootEvent, entity.getType(), drops, coalesce, outcome);
+        }
+    }
+    
+    /**
+     * Looks up the rules of a dying entity's type and counts the drop event if there are any
+     * Touches no Minecraft state, so {@code LootDispatchBenchmark} measures this exact path
+     * 
+     * @param table Rules by entity type
+     * @param type The dying entity's type
+     * @param <K> Entity type key
+     * @return The rules to apply, or null if the type has none
+     */
+    static <K> EntityLootRule[] dispatch(TypeDispatchTable<K, EntityLootRule[]> table, K type) {
+        EntityLootRule[] rules = table.get(type);
+        if (rules == null) {
+            return null;
+        }
+        
+        ModMetrics.LOOT_EVENTS.increment();
+        return rules;
+    }
+}
\ No newline at end of file
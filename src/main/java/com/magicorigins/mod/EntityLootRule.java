@@ -0,0 +1,100 @@
+package com.magicorigins.mod;
+
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParseException;
+import net.minecraft.resources.ResourceLocation;
+import net.minecraft.util.GsonHelper;
+import net.minecraft.util.RandomSource;
+import net.minecraft.world.item.Item;
+import net.minecraftforge.registries.ForgeRegistries;
+
+/**
+ * A single bonus drop declared by a datapack loot rule
+ * 
+ * @param item Item to drop
+ * @param minCount Minimum stack size
+ * @param maxCount Maximum stack size before looting
+ * @param chance Chance (0-1) that the drop is rolled at all
+ * @param lootingBonus Extra items per looting level
+ * @param killedByPlayer Whether the drop requires a player kill
+ * 
+ * @author MagicOrigins Mod Team
+ * @version 1.0.0
+ */
+public record EntityLootRule(Item item, int minCount, int maxCount, float chance, int lootingBonus, boolean killedByPlayer) {
+    
+    public EntityLootRule {
+        if (minCount < 0 || maxCount < minCount) {
+            throw new IllegalArgumentException("invalid count range: " + minCount + ".." + maxCount);
+        }
+        if (chance < 0.0f || chance > 1.0f) {
+            throw new IllegalArgumentException("chance must be between 0 and 1: " + chance);
+        }
+    }
+    
+    /**
+     * Parses a drop entry from JSON
+     * Format: {"item": "minecraft:totem_of_undying", "count": {"min": 1, "max": 1},
+     * "chance": 1.0, "looting_bonus": 0, "conditions": {"killed_by_player": false}}
+     * 
+     * @param json The drop entry
+     * @return The parsed rule
+     * @throws JsonParseException if the entry is malformed or names an unknown item
+     */
+    public static EntityLootRule fromJson(JsonObject json) {
+        ResourceLocation itemId = new ResourceLocation(GsonHelper.getAsString(json, "item"));
+        if (!ForgeRegistries.ITEMS.containsKey(itemId)) {
+            throw new JsonParseException("Unknown item: " + itemId);
+        }
+        Item item = ForgeRegistries.ITEMS.getValue(itemId);
+        
+        int minCount = 1;
+        int maxCount = 1;
+        if (json.has("count")) {
+            if (json.get("count").isJsonObject()) {
+                JsonObject count = GsonHelper.getAsJsonObject(json, "count");
+                minCount = GsonHelper.getAsInt(count, "min", 1);
+                maxCount = GsonHelper.getAsInt(count, "max", minCount);
+            } else {
+                minCount = maxCount = GsonHelper.getAsInt(json, "count");
+            }
+        }
+        
+        boolean killedByPlayer = false;
+        if (json.has("conditions")) {
+            JsonObject conditions = GsonHelper.getAsJsonObject(json, "conditions");
+            killedByPlayer = GsonHelper.getAsBoolean(conditions, "killed_by_player", false);
+        }
+        
+        try {
+            return new EntityLootRule(
+                item,
+                minCount,
+                maxCount,
+                GsonHelper.getAsFloat(json, "chance", 1.0f),
+                GsonHelper.getAsInt(json, "looting_bonus", 0),
+                killedByPlayer
+            );
+        } catch (IllegalArgumentException e) {
+            throw new JsonParseException(e.getMessage());
+        }
+    }
+    
+    /**
+     * Rolls the stack size for one death
+     * 
+     * @param random Random source of the dying entity
+     * @param lootingLevel Looting level of the killing weapon
+     * @return Number of items to drop, or 0 if the chance roll failed
+     */
+    public int rollCount(RandomSource random, int lootingLevel) {
+        if (chance < 1.0f && random.nextFloat() >= chance) {
+            return 0;
+        }
+        int count = minCount == maxCount ? minCount : minCount + random.nextInt(maxCount - minCount + 1);
+        if (lootingBonus > 0 && lootingLevel > 0) {
+            count += random.nextInt(lootingLevel * lootingBonus + 1);
+        }
+        return count;
+    }
+}
\ No newline at end of file
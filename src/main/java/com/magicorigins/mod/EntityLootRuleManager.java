@@ -0,0 +1,128 @@
+package com.magicorigins.mod;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import net.minecraft.resources.ResourceLocation;
+import net.minecraft.server.packs.resources.ResourceManager;
+import net.minecraft.server.packs.resources.SimpleJsonResourceReloadListener;
+import net.minecraft.util.GsonHelper;
+import net.minecraft.util.profiling.ProfilerFiller;
+import net.minecraft.world.entity.EntityType;
+import net.minecraftforge.event.AddReloadListenerEvent;
+import net.minecraftforge.eventbus.api.SubscribeEvent;
+import net.minecraftforge.fml.common.Mod;
+import net.minecraftforge.registries.ForgeRegistries;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Loads entity loot rules from datapacks and indexes them by entity type
+ * Rule files live in data/<namespace>/magicorigins_loot_rules/*.json:
+ * {"entity": "minecraft:warden", "drops": [{"item": "minecraft:totem_of_undying"}]}
+ * 
+ * Several files may target the same entity; their drops are combined.
+ * The index is rebuilt on /reload and published with a single volatile write.
+ * 
+ * @author MagicOrigins Mod Team
+ * @version 1.0.0
+ */
+@Mod.EventBusSubscriber(modid = MagicOriginsMod.MOD_ID)
+public class EntityLootRuleManager extends SimpleJsonResourceReloadListener {
+    
+    /**
+     * Datapack directory scanned for rule files
+     */
+    public static final String DIRECTORY = "magicorigins_loot_rules";
+    
+    private static final Gson GSON = new GsonBuilder().create();
+    
+    /**
+     * Rules by entity type; entity types without rules have no entry
+     */
+    private static volatile TypeDispatchTable<EntityType<?>, EntityLootRule[]> rules = TypeDispatchTable.empty();
+    
+    private EntityLootRuleManager() {
+        super(GSON, DIRECTORY);
+    }
+    
+    /**
+     * Registers the rule loader with the server's datapack reload
+     * 
+     * @param event The AddReloadListenerEvent
+     */
+    @SubscribeEvent
+    public static void onAddReloadListeners(AddReloadListenerEvent event) {
+        event.addListener(new EntityLootRuleManager());
+    }
+    
+    /**
+     * Gets the loot rules for an entity type
+     * 
+     * @param type The entity type
+     * @return Rules for the type, or null if it has none
+     */
+    public static EntityLootRule[] getRules(EntityType<?> type) {
+        return rules.get(type);
+    }
+    
+    /**
+     * Gets the current rule table
+     * 
+     * @return Rules by entity type
+     */
+    static TypeDispatchTable<EntityType<?>, EntityLootRule[]> getRuleTable() {
+        return rules;
+    }
+    
+    /**
+     * Gets the number of entity types with loot rules
+     * 
+     * @return Number of entity types with rules
+     */
+    public static int getEntityTypeCount() {
+        return rules.size();
+    }
+    
+    @Override
+    protected void apply(Map<ResourceLocation, JsonElement> files, ResourceManager resourceManager, ProfilerFiller profiler) {
+        Map<EntityType<?>, List<EntityLootRule>> byType = new HashMap<>();
+        int ruleCount = 0;
+        
+        for (Map.Entry<ResourceLocation, JsonElement> file : files.entrySet()) {
+            try {
+                JsonObject json = GsonHelper.convertToJsonObject(file.getValue(), "loot rule");
+                ResourceLocation entityId = new ResourceLocation(GsonHelper.getAsString(json, "entity"));
+                if (!ForgeRegistries.ENTITY_TYPES.containsKey(entityId)) {
+                    MagicOriginsMod.LOGGER.warn("Skipping loot rule {}: unknown entity {}", file.getKey(), entityId);
+                    continue;
+                }
+                EntityType<?> type = ForgeRegistries.ENTITY_TYPES.getValue(entityId);
+                
+                // Parse the whole file before adding it so a bad entry skips only its own file
+                List<EntityLootRule> fileRules = new ArrayList<>();
+                for (JsonElement drop : GsonHelper.getAsJsonArray(json, "drops")) {
+                    fileRules.add(EntityLootRule.fromJson(GsonHelper.convertToJsonObject(drop, "drop")));
+                }
+                byType.computeIfAbsent(type, key -> new ArrayList<>()).addAll(fileRules);
+                ruleCount += fileRules.size();
+            } catch (Exception e) {
+                MagicOriginsMod.LOGGER.error("Failed to load loot rule {}: {}", file.getKey(), e.getMessage());
+            }
+        }
+        
+        Map<EntityType<?>, EntityLootRule[]> table = new HashMap<>();
+        byType.forEach((type, typeRules) -> {
+            if (!typeRules.isEmpty()) {
+                table.put(type, typeRules.toArray(new EntityLootRule[0]));
+            }
+        });
+        rules = TypeDispatchTable.of(table);
+        
+        MagicOriginsMod.LOGGER.info("Loaded {} loot rules for {} entity types", ruleCount, table.size());
+    }
+}
\ No newline at end of file
@@ -0,0 +1,114 @@
+package com.magicorigins.mod;
+
+import net.minecraft.server.level.ServerPlayer;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * In-process Origins bridge that records calls instead of forwarding them
+ * Selected with -Dmagicorigins.originsBridge=fake so integration behavior can be
+ * verified without the Origins jar
+ * 
+ * @author MagicOrigins Mod Team
+ * @version 1.0.0
+ */
+public class FakeOriginsBridge implements OriginsBridge {
+    
+    /**
+     * Last origin set per player UUID; cleared origins are removed
+     */
+    private final Map<UUID, Origin> origins = new HashMap<>();
+    
+    /**
+     * Player UUIDs of each sync batch, in call order
+     */
+    private final List<List<UUID>> syncBatches = new ArrayList<>();
+    
+    /**
+     * Total number of setOrigin calls
+     */
+    private int setOriginCalls = 0;
+    
+    /**
+     * Total number of clearOrigin calls
+     */
+    private int clearOriginCalls = 0;
+    
+    @Override
+    public String getName() {
+        return "fake";
+    }
+    
+    @Override
+    public void setOrigin(ServerPlayer player, Origin originType) {
+        origins.put(player.getUUID(), originType);
+        setOriginCalls++;
+    }
+    
+    @Override
+    public void clearOrigin(ServerPlayer player) {
+        origins.remove(player.getUUID());
+        clearOriginCalls++;
+    }
+    
+    @Override
+    public void syncAll(List<ServerPlayer> players) {
+        List<UUID> batch = new ArrayList<>(players.size());
+        for (ServerPlayer player : players) {
+            batch.add(player.getUUID());
+        }
+        syncBatches.add(Collections.unmodifiableList(batch));
+    }
+    
+    /**
+     * Gets the last origin set for a player
+     * 
+     * @param playerUUID The player's UUID
+     * @return The origin, or null if none was set
+     */
+    public Origin getOrigin(UUID playerUUID) {
+        return origins.get(playerUUID);
+    }
+    
+    /**
+     * Gets the recorded sync batches
+     * 
+     * @return Unmodifiable list of batches, each a list of player UUIDs
+     */
+    public List<List<UUID>> getSyncBatches() {
+        return Collections.unmodifiableList(syncBatches);
+    }
+    
+    /**
+     * Gets the number of setOrigin calls
+     * 
+     * @return Total setOrigin calls
+     */
+    public int getSetOriginCalls() {
+        return setOriginCalls;
+    }
+    
+    /**
+     * Gets the number of clearOrigin calls
+     * 
+     * @return Total clearOrigin calls
+     */
+    public int getClearOriginCalls() {
+        return clearOriginCalls;
+    }
+    
+    /**
+     * Clears all recorded calls
+     */
+    public void reset() {
+        origins.clear();
+        syncBatches.clear();
+        setOriginCalls = 0;
+        clearOriginCalls = 0;
+    }
+}
\ No newline at end of file
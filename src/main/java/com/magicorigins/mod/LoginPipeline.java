@@ -0,0 +1,109 @@
+package com.magicorigins.mod;
+
+import net.minecraft.nbt.CompoundTag;
+import net.minecraft.server.MinecraftServer;
+import net.minecraft.server.level.ServerPlayer;
+import net.minecraftforge.event.entity.player.PlayerEvent;
+import net.minecraftforge.eventbus.api.SubscribeEvent;
+import net.minecraftforge.fml.common.Mod;
+
+import java.util.UUID;
+import java.util.function.Consumer;
+
+/**
+ * Single ordered handler for player logins
+ * The player's persistent data is read once on the login tick; origin assignment,
+ * Origins sync and progression recompute are deferred to the {@link TickBudgetScheduler}
+ * so a login storm is spread over several ticks
+ * 
+ * @author MagicOrigins Mod Team
+ * @version 1.0.0
+ */
+@Mod.EventBusSubscriber(modid = MagicOriginsMod.MOD_ID)
+public class LoginPipeline {
+    
+    /**
+     * Handles player login events
+     * 
+     * @param event The PlayerLoggedInEvent
+     */
+    @SubscribeEvent
+    public static void onPlayerLogin(PlayerEvent.PlayerLoggedInEvent event) {
+        if (!(event.getEntity() instanceof ServerPlayer serverPlayer)) {
+            return; // Only handle server-side
+        }
+        
+        handleLogin(serverPlayer);
+    }
+    
+    /**
+     * Runs the login pipeline for a player
+     * 
+     * @param player The server player that logged in
+     */
+    public static void handleLogin(ServerPlayer player) {
+        long start = System.nanoTime();
+        ModJfrEvents.Login event = ModJfrEvents.beginLogin();
+        ModMetrics.LOGINS.increment();
+        
+        String username = player.getGameProfile().getName();
+        MagicOriginsMod.LOGGER.debug("Player {} logged in - running login pipeline", username);
+        
+        // Single pass over the player's persistent data
+        CompoundTag persistentData = player.getPersistentData();
+        boolean adopted = SharedOriginStore.reconcile(player, persistentData);
+        boolean originAssigned = persistentData.getBoolean(OriginAssignmentHandler.ORIGIN_ASSIGNED_KEY);
+        Origin storedOrigin = OriginRegistry.read(persistentData, OriginAssignmentHandler.ORIGIN_NBT_KEY);
+        
+        PlayerDataHandler.loadOnLogin(player, persistentData);
+        PlaytimeTracker.startTracking(player);
+        
+        UUID uuid = player.getUUID();
+        MinecraftServer server = player.server;
+        
+        if (storedOrigin != null) {
+            PlayerOriginManager.cachePlayerOrigin(uuid, storedOrigin);
+        }
+        
+        // Backfills the reverse index for players assigned before it existed; no-op when already indexed
+        OriginIndexSavedData.get(server).update(uuid, storedOrigin);
+        OriginSpatialIndex.update(player);
+        if (ModFeature.PASSIVE_ABILITIES.isEnabled()) {
+            PassiveAbilityEngine.track(player);
+        }
+        OriginSyncManager.markFull(player);
+        
+        // Deferred steps, run in order within the per-tick budget
+        if (!originAssigned) {
+            defer(server, uuid, OriginAssignmentHandler::assignMappedOrigin);
+        } else if (adopted && storedOrigin != null) {
+            // Adopted from the shared store, so the Origins mod still holds the previous origin
+            defer(server, uuid, target -> OriginsIntegration.queueOrigin(target, storedOrigin));
+        } else if (storedOrigin != null) {
+            defer(server, uuid, OriginsIntegration::queueSync);
+        }
+        if (ModFeature.ABILITY_PROGRESSION.isEnabled()) {
+            defer(server, uuid, AbilityProgressionEngine::recompute);
+        }
+        
+        ModMetrics.LOGIN_LATENCY.recordSince(start);
+        ModJfrEvents.finish(event, uuid, storedOrigin, originAssigned ? "returning" : "pending_assignment");
+    }
+    
+    /**
+     * Schedules a login step for a player
+     * The step is skipped if the player has logged out before it runs
+     * 
+     * @param server The running server
+     * @param uuid The player's UUID
+     * @param step The step to run
+     */
+    private static void defer(MinecraftServer server, UUID uuid, Consumer<ServerPlayer> step) {
+        TickBudgetScheduler.schedule(() -> {
+            ServerPlayer player = server.getPlayerList().getPlayer(uuid);
+            if (player != null) {
+                step.accept(player);
+            }
+        });
+    }
+}
\ No newline at end of file
@@ -0,0 +1,196 @@
+package com.magicorigins.mod;
+
+import com.mojang.authlib.GameProfile;
+import com.mojang.brigadier.CommandDispatcher;
+import com.mojang.brigadier.arguments.StringArgumentType;
+import com.mojang.brigadier.context.CommandContext;
+import net.minecraft.commands.CommandSourceStack;
+import net.minecraft.commands.Commands;
+import net.minecraft.network.chat.Component;
+import net.minecraft.server.MinecraftServer;
+import net.minecraftforge.event.RegisterCommandsEvent;
+import net.minecraftforge.eventbus.api.SubscribeEvent;
+import net.minecraftforge.fml.common.Mod;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Registers the /magicorigins operator command tree
+ * 
+ * @author MagicOrigins Mod Team
+ * @version 1.0.0
+ */
+@Mod.EventBusSubscriber(modid = MagicOriginsMod.MOD_ID)
+public class MagicOriginsCommands {
+    
+    /**
+     * Permission level required to use the operator commands
+     */
+    private static final int OPERATOR_PERMISSION_LEVEL = 2;
+    
+    /**
+     * Registers the command tree when the server builds its command dispatcher
+     * 
+     * @param event The RegisterCommandsEvent
+     */
+    @SubscribeEvent
+    public static void onRegisterCommands(RegisterCommandsEvent event) {
+        register(event.getDispatcher());
+    }
+    
+    /**
+     * Builds and registers the /magicorigins command tree
+     * 
+     * @param dispatcher The server command dispatcher
+     */
+    private static void register(CommandDispatcher<CommandSourceStack> dispatcher) {
+        dispatcher.register(Commands.literal(MagicOriginsMod.MOD_ID)
+            .requires(source -> source.hasPermission(OPERATOR_PERMISSION_LEVEL))
+            .then(Commands.literal("reload")
+                .executes(MagicOriginsCommands::reloadMappings))
+            .then(Commands.literal("stats")
+                .executes(MagicOriginsCommands::showStats))
+            .then(Commands.literal("who")
+                .then(Commands.argument("origin", StringArgumentType.word())
+                    .executes(MagicOriginsCommands::listOriginPlayers)))
+            .then(Commands.literal("offline")
+                .then(Commands.literal("scan")
+                    .executes(context -> runOfflineScan(context, OfflinePlayerDataScanner.Mode.SCAN, null)))
+                .then(Commands.literal("assign")
+                    .executes(context -> runOfflineScan(context, OfflinePlayerDataScanner.Mode.ASSIGN, null)))
+                .then(Commands.literal("reset")
+                    .then(Commands.literal("all")
+                        .executes(context -> runOfflineScan(context, OfflinePlayerDataScanner.Mode.RESET, null)))
+                    .then(Commands.argument("origin", StringArgumentType.word())
+                        .executes(context -> runOfflineScan(context, OfflinePlayerDataScanner.Mode.RESET,
+                            StringArgumentType.getString(context, "origin")))))));
+    }
+    
+    /**
+     * Reloads the origin mapping file without blocking the server thread
+     * The result is reported back on the server thread once the reload finishes
+     * 
+     * @param context The command context
+     * @return Command result
+     */
+    private static int reloadMappings(CommandContext<CommandSourceStack> context) {
+        CommandSourceStack source = context.getSource();
+        MinecraftServer server = source.getServer();
+        
+        source.sendSuccess(() -> Component.literal("Reloading origin mappings..."), false);
+        
+        PlayerOriginManager.reloadAsync().whenComplete((count, error) -> server.execute(() -> {
+            if (error != null) {
+                Throwable cause = error.getCause() != null ? error.getCause() : error;
+                MagicOriginsMod.LOGGER.error("Failed to reload origin mappings: {}", cause.getMessage());
+                source.sendFailure(Component.literal("Failed to reload origin mappings: " + cause.getMessage()));
+            } else {
+                source.sendSuccess(() -> Component.literal("Reloaded " + count + " origin mappings"), true);
+            }
+        }));
+        
+        return 1;
+    }
+    
+    /**
+     * Shows a summary of all mod metrics
+     * 
+     * @param context The command context
+     * @return Command result
+     */
+    private static int showStats(CommandContext<CommandSourceStack> context) {
+        CommandSourceStack source = context.getSource();
+        
+        source.sendSuccess(() -> Component.literal("Magic Origins metrics:"), false);
+        for (String line : MetricsRegistry.summarize()) {
+            source.sendSuccess(() -> Component.literal("  " + line), false);
+        }
+        
+        return 1;
+    }
+    
+    /**
+     * Lists the online and offline players with an origin, using the origin index
+     * 
+     * @param context The command context
+     * @return Number of players with the origin
+     */
+    private static int listOriginPlayers(CommandContext<CommandSourceStack> context) {
+        CommandSourceStack source = context.getSource();
+        MinecraftServer server = source.getServer();
+        Origin origin = OriginRegistry.get(StringArgumentType.getString(context, "origin"));
+        if (origin == null) {
+            source.sendFailure(Component.literal("Unknown origin '" + StringArgumentType.getString(context, "origin") + "'"));
+            return 0;
+        }
+        
+        Set<UUID> players = OriginIndexSavedData.get(server).getPlayers(origin);
+        List<String> names = new ArrayList<>(players.size());
+        for (UUID uuid : players) {
+            names.add(server.getProfileCache().get(uuid).map(GameProfile::getName).orElse(uuid.toString()));
+        }
+        Collections.sort(names);
+        
+        source.sendSuccess(() -> Component.literal(names.size() + " players with origin '" + origin + "'"
+            + (names.isEmpty() ? "" : ": " + String.join(", ", names))), false);
+        
+        return names.size();
+    }
+    
+    /**
+     * Runs an offline player data scan on the worker pool
+     * The summary is reported back on the server thread once the scan finishes
+     * 
+     * @param context The command context
+     * @param mode What to do with each offline player
+     * @param resetOriginName For resets, the name of the origin to reset, or null for every origin
+     * @return Command result
+     */
+    private static int runOfflineScan(CommandContext<CommandSourceStack> context, OfflinePlayerDataScanner.Mode mode,
+                                      String resetOriginName) {
+        CommandSourceStack source = context.getSource();
+        MinecraftServer server = source.getServer();
+        
+        Origin resetOrigin = resetOriginName != null ? OriginRegistry.get(resetOriginName) : null;
+        if (resetOriginName != null && resetOrigin == null) {
+            source.sendFailure(Component.literal("Unknown origin '" + resetOriginName + "'"));
+            return 0;
+        }
+        
+        CompletableFuture<OfflinePlayerDataScanner.Result> scan = OfflinePlayerDataScanner.start(server, mode, resetOrigin);
+        if (scan == null) {
+            source.sendFailure(Component.literal("An offline scan is already running"));
+            return 0;
+        }
+        
+        source.sendSuccess(() -> Component.literal("Scanning offline player data..."), false);
+        
+        scan.whenComplete((result, error) -> server.execute(() -> {
+            if (error != null) {
+                Throwable cause = error.getCause() != null ? error.getCause() : error;
+                MagicOriginsMod.LOGGER.error("Offline scan failed: {}", cause.getMessage());
+                source.sendFailure(Component.literal("Offline scan failed: " + cause.getMessage()));
+                return;
+            }
+            
+            source.sendSuccess(() -> Component.literal(String.format(
+                "Scanned %d offline players in %d ms (%d modified, %d online skipped, %d failed)",
+                result.players().size(), result.elapsedMillis(), result.getModifiedCount(),
+                result.skippedOnline(), result.failures())), mode != OfflinePlayerDataScanner.Mode.SCAN);
+            for (Map.Entry<String, Long> entry : OfflinePlayerDataScanner.countByOrigin(result.players()).entrySet()) {
+                source.sendSuccess(() -> Component.literal("  " + entry.getKey() + ": " + entry.getValue()), false);
+            }
+            if (result.report() != null) {
+                source.sendSuccess(() -> Component.literal("Report written to " + result.report().getFileName()), false);
+            }
+        }));
+        
+        return 1;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,229 @@
+package com.magicorigins.mod;
+
+import net.minecraftforge.common.ForgeConfigSpec;
+import net.minecraftforge.fml.event.config.ModConfigEvent;
+
+/**
+ * Server configuration for Magic Origins
+ * Values are baked into static fields when the config loads so hot paths never query the spec
+ * 
+ * @author MagicOrigins Mod Team
+ * @version 1.0.0
+ */
+public class MagicOriginsConfig {
+    
+    /**
+     * The server config specification
+     */
+    public static final ForgeConfigSpec SPEC;
+    
+    /**
+     * Seconds between playtime flushes into player data
+     */
+    private static final ForgeConfigSpec.IntValue PLAYTIME_FLUSH_INTERVAL_SECONDS;
+    
+    /**
+     * Milliseconds per tick available to deferred login work
+     */
+    private static final ForgeConfigSpec.DoubleValue LOGIN_TICK_BUDGET_MILLIS;
+    
+    /**
+     * Seconds between metrics file dumps
+     */
+    private static final ForgeConfigSpec.IntValue METRICS_DUMP_INTERVAL_SECONDS;
+    
+    /**
+     * Ticks that injected loot drops are held for coalescing
+     */
+    private static final ForgeConfigSpec.IntValue DROP_COALESCE_WINDOW_TICKS;
+    
+    /**
+     * Blocks within which held drops of the same item are merged
+     */
+    private static final ForgeConfigSpec.DoubleValue DROP_COALESCE_RADIUS;
+    
+    /**
+     * Ticks between passive ability evaluations of each player
+     */
+    private static final ForgeConfigSpec.IntValue PASSIVE_INTERVAL_TICKS;
+    
+    /**
+     * Seconds between write-behind saves of changed player data
+     */
+    private static final ForgeConfigSpec.IntValue STORAGE_WRITE_INTERVAL_SECONDS;
+    
+    /**
+     * Directory of the origin store shared with other servers, empty if disabled
+     */
+    private static final ForgeConfigSpec.ConfigValue<String> SHARED_STORE_DIRECTORY;
+    
+    /**
+     * Seconds between full scans of the shared origin store
+     */
+    private static final ForgeConfigSpec.IntValue SHARED_STORE_RESCAN_SECONDS;
+    
+    /**
+     * Feature toggles
+     */
+    private static final ForgeConfigSpec.BooleanValue LOOT_RULES_ENABLED;
+    private static final ForgeConfigSpec.BooleanValue ABILITY_PROGRESSION_ENABLED;
+    private static final ForgeConfigSpec.BooleanValue PASSIVE_ABILITIES_ENABLED;
+    
+    static {
+        ForgeConfigSpec.Builder builder = new ForgeConfigSpec.Builder();
+        
+        builder.comment("Playtime tracking").push("playtime");
+        PLAYTIME_FLUSH_INTERVAL_SECONDS = builder
+            .comment("Seconds between flushes of accumulated playtime into player data.",
+                "At most this much playtime is lost if the server crashes.")
+            .defineInRange("flushIntervalSeconds", 60, 5, 3600);
+        builder.pop();
+        
+        builder.comment("Login handling").push("login");
+        LOGIN_TICK_BUDGET_MILLIS = builder
+            .comment("Milliseconds per tick spent on deferred login work (origin assignment, Origins sync,",
+                "progression recompute). Remaining work continues in the next tick.")
+            .defineInRange("tickBudgetMillis", 2.0, 0.1, 50.0);
+        builder.pop();
+        
+        builder.comment("Metrics").push("metrics");
+        METRICS_DUMP_INTERVAL_SECONDS = builder
+            .comment("Seconds between writes of magicorigins-metrics.prom (Prometheus text format)",
+                "in the server directory. 0 disables the file.")
+            .defineInRange("dumpIntervalSeconds", 60, 0, 3600);
+        builder.pop();
+        
+        builder.comment("Loot drops").push("loot");
+        DROP_COALESCE_WINDOW_TICKS = builder
+            .comment("Ticks that loot rule drops are held so drops of the same item in the same chunk",
+                "can be merged into one item entity. 0 spawns every drop immediately.")
+            .defineInRange("coalesceWindowTicks", 10, 0, 200);
+        DROP_COALESCE_RADIUS = builder
+            .comment("Distance in blocks within which held drops of the same item are merged.",
+                "Drops are only merged within the same chunk.")
+            .defineInRange("coalesceRadius", 4.0, 0.0, 16.0);
+        builder.pop();
+        
+        builder.comment("Passive abilities").push("abilities");
+        PASSIVE_INTERVAL_TICKS = builder
+            .comment("Ticks between passive ability evaluations of each player. Players are spread evenly",
+                "over this many ticks, so each tick evaluates roughly onlinePlayers / interval players.")
+            .defineInRange("evaluationIntervalTicks", 10, 1, 100);
+        builder.pop();
+        
+        builder.comment("Player data storage").push("storage");
+        STORAGE_WRITE_INTERVAL_SECONDS = builder
+            .comment("Seconds between saves of changed player data to the mod's player data store.",
+                "Data is also saved with every vanilla player save and on logout; writes run in the background.")
+            .defineInRange("writeIntervalSeconds", 30, 5, 600);
+        builder.pop();
+        
+        builder.comment("Origin store shared by several servers behind a proxy").push("sharedStore");
+        SHARED_STORE_DIRECTORY = builder
+            .comment("Directory shared by all servers, for example on common storage. Origin assignments and resets",
+                "are written there and picked up by the other servers. Leave empty to keep origins per server.",
+                "Changes apply when the server starts.")
+            .define("directory", "");
+        SHARED_STORE_RESCAN_SECONDS = builder
+            .comment("Seconds between full scans of the shared directory for changes that were not reported by the",
+                "file system, such as writes by other hosts on network storage. 0 relies on change notifications only.")
+            .defineInRange("rescanSeconds", 60, 0, 3600);
+        builder.pop();
+        
+        builder.comment("Optional features. A disabled feature registers no event listeners; changes apply on reload.")
+            .push("features");
+        LOOT_RULES_ENABLED = builder
+            .comment("Apply datapack loot rules to entity drops, such as the Warden totem drop.")
+            .define("lootRules", true);
+        ABILITY_PROGRESSION_ENABLED = builder
+            .comment("Count mined blocks, kills, damage and time in water towards ability progression.",
+                "Playtime still counts when disabled.")
+            .define("abilityProgression", true);
+        PASSIVE_ABILITIES_ENABLED = builder
+            .comment("Apply the passive effects of each origin.")
+            .define("passiveAbilities", true);
+        builder.pop();
+        
+        SPEC = builder.build();
+    }
+    
+    /**
+     * Baked playtime flush interval in ticks
+     */
+    public static volatile int playtimeFlushIntervalTicks = 60 * 20;
+    
+    /**
+     * Baked per-tick budget for deferred work in nanoseconds
+     */
+    public static volatile long tickBudgetNanos = 2_000_000L;
+    
+    /**
+     * Baked metrics dump interval in seconds, 0 if disabled
+     */
+    public static volatile int metricsDumpIntervalSeconds = 60;
+    
+    /**
+     * Baked drop coalescing window in ticks, 0 if disabled
+     */
+    public static volatile int dropCoalesceWindowTicks = 10;
+    
+    /**
+     * Baked drop coalescing radius in blocks
+     */
+    public static volatile double dropCoalesceRadius = 4.0;
+    
+    /**
+     * Baked passive ability evaluation interval in ticks
+     */
+    public static volatile int passiveIntervalTicks = 10;
+    
+    /**
+     * Baked player data store write interval in ticks
+     */
+    public static volatile int storageWriteIntervalTicks = 30 * 20;
+    
+    /**
+     * Baked shared origin store directory, empty if disabled
+     */
+    public static volatile String sharedStoreDirectory = "";
+    
+    /**
+     * Baked shared origin store rescan interval in seconds, 0 if disabled
+     */
+    public static volatile int sharedStoreRescanSeconds = 60;
+    
+    /**
+     * Baked feature toggles
+     */
+    public static volatile boolean lootRulesEnabled = true;
+    public static volatile boolean abilityProgressionEnabled = true;
+    public static volatile boolean passiveAbilitiesEnabled = true;
+    
+    /**
+     * Bakes config values when the server config is loaded or reloaded (mod event bus)
+     * 
+     * @param event The ModConfigEvent
+     */
+    public static void onConfigLoad(ModConfigEvent event) {
+        if (event.getConfig().getSpec() != SPEC) {
+            return;
+        }
+        
+        playtimeFlushIntervalTicks = PLAYTIME_FLUSH_INTERVAL_SECONDS.get() * 20;
+        tickBudgetNanos = (long) (LOGIN_TICK_BUDGET_MILLIS.get() * 1_000_000L);
+        metricsDumpIntervalSeconds = METRICS_DUMP_INTERVAL_SECONDS.get();
+        dropCoalesceWindowTicks = DROP_COALESCE_WINDOW_TICKS.get();
+        dropCoalesceRadius = DROP_COALESCE_RADIUS.get();
+        passiveIntervalTicks = PASSIVE_INTERVAL_TICKS.get();
+        storageWriteIntervalTicks = STORAGE_WRITE_INTERVAL_SECONDS.get() * 20;
+        sharedStoreDirectory = SHARED_STORE_DIRECTORY.get();
+        sharedStoreRescanSeconds = SHARED_STORE_RESCAN_SECONDS.get();
+        lootRulesEnabled = LOOT_RULES_ENABLED.get();
+        abilityProgressionEnabled = ABILITY_PROGRESSION_ENABLED.get();
+        passiveAbilitiesEnabled = PASSIVE_ABILITIES_ENABLED.get();
+        ModFeature.applyConfig();
+        
+        MagicOriginsMod.LOGGER.debug("Loaded server config: playtimeFlushIntervalTicks={}, tickBudgetNanos={}", 
+            playtimeFlushIntervalTicks, tickBudgetNanos);
+    }
+}
\ No newline at end of file
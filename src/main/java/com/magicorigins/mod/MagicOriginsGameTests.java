@@ -0,0 +1,497 @@
+package com.magicorigins.mod;
+
+import net.minecraft.core.BlockPos;
+import net.minecraft.gametest.framework.AfterBatch;
+import net.minecraft.gametest.framework.GameTest;
+import net.minecraft.gametest.framework.GameTestHelper;
+import net.minecraft.server.MinecraftServer;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.server.level.ServerPlayer;
+import net.minecraft.world.entity.EntityType;
+import net.minecraft.world.entity.item.ItemEntity;
+import net.minecraft.world.entity.monster.warden.Warden;
+import net.minecraft.world.item.Items;
+import net.minecraftforge.gametest.GameTestHolder;
+import net.minecraftforge.gametest.PrefixGameTestTemplate;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+/**
+ * Load-simulation game tests for the login, loot and reset paths, and tests of the Origins bridge
+ * batching and the shared origin store
+ * Each test drives hundreds of mock players or kills through the real event handlers, checks the
+ * resulting state and fails if the mean cost per operation or the server tick time exceeds its budget.
+ * Run headless with {@code ./gradlew runGameTestServer}; each test has its own batch so the
+ * measurements of different tests never overlap. Global state a test changes is restored after its batch,
+ * whether the test passed or failed
+ * 
+ * @author MagicOrigins Mod Team
+ * @version 1.0.0
+ */
+@GameTestHolder(MagicOriginsMod.MOD_ID)
+@PrefixGameTestTemplate(false)
+public class MagicOriginsGameTests {
+    
+    /**
+     * Empty structure the tests run in (data/magicorigins/structures/empty.nbt)
+     */
+    private static final String TEMPLATE = "empty";
+    
+    /**
+     * Username given to every mock player by the game test framework
+     */
+    private static final String MOCK_PLAYER_NAME = "test-mock-player";
+    
+    /**
+     * Batch of each test
+     */
+    private static final String LOGIN_BATCH = "magicorigins_login";
+    private static final String LOOT_BATCH = "magicorigins_loot";
+    private static final String RESET_BATCH = "magicorigins_reset";
+    private static final String BRIDGE_BATCH = "magicorigins_bridge";
+    private static final String SHARED_STORE_BATCH = "magicorigins_shared_store";
+    
+    /**
+     * Undo steps registered by the running test, run in reverse order after its batch
+     */
+    private static final Deque<Runnable> CLEANUP = new ArrayDeque<>();
+    
+    /**
+     * Mock players logged in by the login and reset tests
+     */
+    private static final int LOGIN_PLAYERS = 200;
+    private static final int RESET_PLAYERS = 100;
+    
+    /**
+     * Mock players logged in by the Origins bridge test
+     */
+    private static final int BRIDGE_PLAYERS = 20;
+    
+    /**
+     * Wardens killed by the loot test
+     */
+    private static final int WARDEN_KILLS = 50;
+    
+    /**
+     * Mean cost budgets per operation in nanoseconds
+     */
+    private static final long LOGIN_BUDGET_NANOS = 1_000_000L;
+    private static final long ASSIGNMENT_BUDGET_NANOS = 1_000_000L;
+    private static final long PASSIVE_SLOT_BUDGET_NANOS = 1_000_000L;
+    private static final long LOOT_BUDGET_NANOS = 250_000L;
+    private static final long RESET_BUDGET_NANOS = 1_000_000L;
+    
+    /**
+     * Average server tick time allowed while the load is processed, one tick at 20 TPS
+     */
+    private static final float TICK_BUDGET_MILLIS = 50.0f;
+    
+    /**
+     * Deferred work budget for the Origins bridge test, large enough to run every login step in one tick
+     */
+    private static final long BRIDGE_TICK_BUDGET_NANOS = 10_000_000_000L;
+    
+    /**
+     * Logs in hundreds of mock players, waits for the deferred login work and logs them out again
+     * 
+     * @param helper The game test helper
+     */
+    @GameTest(template = TEMPLATE, batch = LOGIN_BATCH, timeoutTicks = 1200)
+    public static void loginLogoutLoad(GameTestHelper helper) {
+        MinecraftServer server = helper.getLevel().getServer();
+        mapMockPlayersTo(OriginRegistry.WATER);
+        int indexedBefore = OriginSpatialIndex.size();
+        
+        BudgetWindow login = new BudgetWindow(ModMetrics.LOGIN_LATENCY);
+        BudgetWindow assignment = new BudgetWindow(ModMetrics.ASSIGNMENT_LATENCY);
+        BudgetWindow passive = new BudgetWindow(ModMetrics.PASSIVE_TICK_LATENCY);
+        List<ServerPlayer> players = new ArrayList<>(LOGIN_PLAYERS);
+        for (int i = 0; i < LOGIN_PLAYERS; i++) {
+            players.add(logIn(helper));
+        }
+        
+        helper.startSequence()
+            .thenWaitUntil(() -> helper.assertTrue(TickBudgetScheduler.getPendingCount() == 0,
+                "Deferred login work not finished"))
+            .thenExecute(() -> {
+                OriginIndexSavedData index = OriginIndexSavedData.get(server);
+                for (ServerPlayer player : players) {
+                    helper.assertTrue(OriginAssignmentHandler.hasAssignedOrigin(player), "Origin not assigned");
+                    helper.assertTrue(OriginAssignmentHandler.getCachedPlayerOrigin(player) == OriginRegistry.WATER,
+                        "Wrong cached origin");
+                    helper.assertTrue(index.getOrigin(player.getUUID()) == OriginRegistry.WATER,
+                        "Player missing from the origin index");
+                }
+                helper.assertTrue(OriginSpatialIndex.size() == indexedBefore + LOGIN_PLAYERS,
+                    "Players missing from the spatial index");
+            })
+            .thenIdle(MagicOriginsConfig.passiveIntervalTicks * 2)
+            .thenExecute(() -> {
+                assertTickTime(helper, server);
+                for (ServerPlayer player : players) {
+                    logOut(server, player);
+                }
+                helper.assertTrue(OriginSpatialIndex.size() == indexedBefore, "Logged out players still indexed");
+                
+                login.assertMeanBelow(helper, LOGIN_BUDGET_NANOS, LOGIN_PLAYERS);
+                assignment.assertMeanBelow(helper, ASSIGNMENT_BUDGET_NANOS, LOGIN_PLAYERS);
+                passive.assertMeanBelow(helper, PASSIVE_SLOT_BUDGET_NANOS, 1);
+            })
+            .thenSucceed();
+    }
+    
+    /**
+     * Kills Wardens as a player and checks that every kill yields exactly its rule drops
+     * 
+     * @param helper The game test helper
+     */
+    @GameTest(template = TEMPLATE, batch = LOOT_BATCH, timeoutTicks = 400)
+    public static void wardenKillLoad(GameTestHelper helper) {
+        MinecraftServer server = helper.getLevel().getServer();
+        ServerPlayer killer = logIn(helper);
+        BudgetWindow loot = new BudgetWindow(ModMetrics.LOOT_LATENCY);
+        
+        for (int i = 0; i < WARDEN_KILLS; i++) {
+            Warden warden = helper.spawn(EntityType.WARDEN, new BlockPos(1 + i % 6, 1, 1 + (i / 6) % 6));
+            warden.hurt(helper.getLevel().damageSources().playerAttack(killer), Float.MAX_VALUE);
+            helper.assertTrue(warden.isDeadOrDying(), "Warden survived the kill");
+        }
+        
+        helper.startSequence()
+            .thenWaitUntil(() -> helper.assertTrue(DropCoalescer.getPendingCount() == 0, "Drops still held"))
+            .thenExecute(() -> {
+                int totems = 0;
+                for (ItemEntity item : helper.getLevel().getEntitiesOfClass(ItemEntity.class, helper.getBounds().inflate(4.0))) {
+                    if (item.getItem().is(Items.TOTEM_OF_UNDYING)) {
+                        totems += item.getItem().getCount();
+                    }
+                }
+                helper.assertTrue(totems == WARDEN_KILLS, "Expected " + WARDEN_KILLS + " totems, found " + totems);
+                
+                assertTickTime(helper, server);
+                logOut(server, killer);
+                loot.assertMeanBelow(helper, LOOT_BUDGET_NANOS, WARDEN_KILLS);
+            })
+            .thenSucceed();
+    }
+    
+    /**
+     * Resets the origins of many online players, then reassigns their mapped origin
+     * 
+     * @param helper The game test helper
+     */
+    @GameTest(template = TEMPLATE, batch = RESET_BATCH, timeoutTicks = 1200)
+    public static void originResetLoad(GameTestHelper helper) {
+        MinecraftServer server = helper.getLevel().getServer();
+        mapMockPlayersTo(OriginRegistry.STONE);
+        List<ServerPlayer> players = new ArrayList<>(RESET_PLAYERS);
+        for (int i = 0; i < RESET_PLAYERS; i++) {
+            players.add(logIn(helper));
+        }
+        
+        helper.startSequence()
+            .thenWaitUntil(() -> helper.assertTrue(TickBudgetScheduler.getPendingCount() == 0,
+                "Deferred login work not finished"))
+            .thenExecute(() -> {
+                OriginIndexSavedData index = OriginIndexSavedData.get(server);
+                long start = System.nanoTime();
+                for (ServerPlayer player : players) {
+                    OriginAssignmentHandler.resetPlayerOrigin(player);
+                }
+                long meanNanos = (System.nanoTime() - start) / RESET_PLAYERS;
+                
+                for (ServerPlayer player : players) {
+                    helper.assertFalse(OriginAssignmentHandler.hasAssignedOrigin(player), "Origin still assigned");
+                    helper.assertTrue(OriginAssignmentHandler.getPlayerOrigin(player) == null, "Origin still stored");
+                    helper.assertTrue(OriginAssignmentHandler.getCachedPlayerOrigin(player) == null, "Origin still cached");
+                    helper.assertTrue(index.getOrigin(player.getUUID()) == null, "Player still in the origin index");
+                    helper.assertTrue(!ModFeature.ABILITY_PROGRESSION.isEnabled()
+                        || PlayerDataHandler.getAbilityProgress(player) == 0.0f, "Progress not recomputed");
+                }
+                helper.assertTrue(meanNanos <= RESET_BUDGET_NANOS,
+                    "Origin reset took " + meanNanos + " ns on average, budget " + RESET_BUDGET_NANOS + " ns");
+                
+                for (ServerPlayer player : players) {
+                    OriginAssignmentHandler.assignMappedOrigin(player);
+                }
+            })
+            .thenExecute(() -> {
+                for (ServerPlayer player : players) {
+                    helper.assertTrue(OriginAssignmentHandler.getCachedPlayerOrigin(player) == OriginRegistry.STONE,
+                        "Origin not reassigned");
+                }
+                
+                assertTickTime(helper, server);
+                for (ServerPlayer player : players) {
+                    logOut(server, player);
+                }
+            })
+            .thenSucceed();
+    }
+    
+    /**
+     * Logs in mock players in one tick and checks that the Origins bridge receives their origins in a
+     * single sync batch, then that resetting them clears their origins in a second batch
+     * Needs the fake bridge ({@code -Dmagicorigins.originsBridge=fake}), which the gameTestServer run selects
+     * 
+     * @param helper The game test helper
+     */
+    @GameTest(template = TEMPLATE, batch = BRIDGE_BATCH, timeoutTicks = 200)
+    public static void originsBridgeBatching(GameTestHelper helper) {
+        if (!(OriginsIntegration.getBridge() instanceof FakeOriginsBridge bridge)) {
+            helper.fail("Run the game tests with -Dmagicorigins.originsBridge=fake");
+            return;
+        }
+        
+        MinecraftServer server = helper.getLevel().getServer();
+        mapMockPlayersTo(OriginRegistry.FIRE);
+        long previousBudget = MagicOriginsConfig.tickBudgetNanos;
+        MagicOriginsConfig.tickBudgetNanos = BRIDGE_TICK_BUDGET_NANOS;
+        CLEANUP.push(() -> MagicOriginsConfig.tickBudgetNanos = previousBudget);
+        bridge.reset();
+        CLEANUP.push(bridge::reset);
+        
+        List<ServerPlayer> players = new ArrayList<>(BRIDGE_PLAYERS);
+        for (int i = 0; i < BRIDGE_PLAYERS; i++) {
+            players.add(logIn(helper));
+        }
+        
+        helper.startSequence()
+            .thenWaitUntil(() -> helper.assertTrue(!bridge.getSyncBatches().isEmpty(), "No sync batch yet"))
+            .thenExecute(() -> {
+                MagicOriginsConfig.tickBudgetNanos = previousBudget;
+                helper.assertTrue(bridge.getSyncBatches().size() == 1,
+                    "Expected one sync batch, got " + bridge.getSyncBatches().size());
+                helper.assertTrue(bridge.getSyncBatches().get(0).size() == BRIDGE_PLAYERS,
+                    "Expected a batch of " + BRIDGE_PLAYERS + ", got " + bridge.getSyncBatches().get(0).size());
+                helper.assertTrue(bridge.getSetOriginCalls() == BRIDGE_PLAYERS, "Wrong number of setOrigin calls");
+                for (ServerPlayer player : players) {
+                    helper.assertTrue(bridge.getOrigin(player.getUUID()) == OriginRegistry.FIRE,
+                        "Origin not forwarded to the bridge");
+                }
+                
+                for (ServerPlayer player : players) {
+                    OriginAssignmentHandler.resetPlayerOrigin(player);
+                }
+            })
+            .thenWaitUntil(() -> helper.assertTrue(bridge.getSyncBatches().size() >= 2, "No reset sync batch yet"))
+            .thenExecute(() -> {
+                helper.assertTrue(bridge.getSyncBatches().size() == 2,
+                    "Expected one reset sync batch, got " + (bridge.getSyncBatches().size() - 1));
+                helper.assertTrue(bridge.getSyncBatches().get(1).size() == BRIDGE_PLAYERS, "Wrong reset batch size");
+                helper.assertTrue(bridge.getClearOriginCalls() == BRIDGE_PLAYERS, "Wrong number of clearOrigin calls");
+                for (ServerPlayer player : players) {
+                    helper.assertTrue(bridge.getOrigin(player.getUUID()) == null, "Origin not cleared on the bridge");
+                }
+                
+                for (ServerPlayer player : players) {
+                    logOut(server, player);
+                }
+            })
+            .thenSucceed();
+    }
+    
+    /**
+     * Runs one server against a temporary shared origin store, simulates an origin change written by another
+     * server and checks that it reaches the local cache through a file change notification
+     * 
+     * @param helper The game test helper
+     */
+    @GameTest(template = TEMPLATE, batch = SHARED_STORE_BATCH, timeoutTicks = 400)
+    public static void sharedStoreRemoteChange(GameTestHelper helper) {
+        helper.assertFalse(SharedOriginStore.isEnabled(), "Run the game tests without sharedStore.directory");
+        MinecraftServer server = helper.getLevel().getServer();
+        Path dir;
+        try {
+            dir = Files.createTempDirectory("magicorigins-shared");
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        SharedOriginStore.open(dir);
+        CLEANUP.push(() -> {
+            SharedOriginStore.close();
+            deleteDirectory(dir);
+        });
+        
+        mapMockPlayersTo(OriginRegistry.WATER);
+        ServerPlayer player = logIn(helper);
+        UUID uuid = player.getUUID();
+        
+        helper.startSequence()
+            .thenWaitUntil(() -> helper.assertTrue(Files.exists(dir.resolve(uuid + ".dat")),
+                "Assignment not written to the shared store"))
+            .thenExecute(() -> {
+                helper.assertTrue(SharedOriginStore.get(uuid).origin() == OriginRegistry.WATER, "Wrong shared origin");
+                try {
+                    SharedOriginStore.writeEntry(dir, uuid,
+                        new SharedOriginStore.Entry(OriginRegistry.FIRE, System.currentTimeMillis() + 1));
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            })
+            .thenWaitUntil(() -> helper.assertTrue(SharedOriginStore.get(uuid).origin() == OriginRegistry.FIRE,
+                "Remote change not picked up"))
+            .thenExecute(() -> {
+                SharedOriginStore.reconcile(player, player.getPersistentData());
+                helper.assertTrue(OriginAssignmentHandler.getPlayerOrigin(player) == OriginRegistry.FIRE,
+                    "Shared origin not adopted");
+                
+                logOut(server, player);
+            })
+            .thenSucceed();
+    }
+    
+    /**
+     * Restores the state changed by the login test
+     * 
+     * @param level The test level
+     */
+    @AfterBatch(batch = LOGIN_BATCH)
+    public static void afterLoginBatch(ServerLevel level) {
+        runCleanup();
+    }
+    
+    /**
+     * Restores the state changed by the loot test
+     * 
+     * @param level The test level
+     */
+    @AfterBatch(batch = LOOT_BATCH)
+    public static void afterLootBatch(ServerLevel level) {
+        runCleanup();
+    }
+    
+    /**
+     * Restores the state changed by the reset test
+     * 
+     * @param level The test level
+     */
+    @AfterBatch(batch = RESET_BATCH)
+    public static void afterResetBatch(ServerLevel level) {
+        runCleanup();
+    }
+    
+    /**
+     * Restores the state changed by the Origins bridge test
+     * 
+     * @param level The test level
+     */
+    @AfterBatch(batch = BRIDGE_BATCH)
+    public static void afterBridgeBatch(ServerLevel level) {
+        runCleanup();
+    }
+    
+    /**
+     * Restores the state changed by the shared origin store test
+     * 
+     * @param level The test level
+     */
+    @AfterBatch(batch = SHARED_STORE_BATCH)
+    public static void afterSharedStoreBatch(ServerLevel level) {
+        runCleanup();
+    }
+    
+    /**
+     * Runs the registered undo steps, newest first; a failing step does not stop the others
+     */
+    private static void runCleanup() {
+        Runnable step;
+        while ((step = CLEANUP.poll()) != null) {
+            try {
+                step.run();
+            } catch (Exception e) {
+                MagicOriginsMod.LOGGER.error("Game test cleanup failed: {}", e.getMessage());
+            }
+        }
+    }
+    
+    /**
+     * Replaces the mappings with a single mapping of the mock player name, restored after the batch
+     * Mock players get random UUIDs, so they are matched by name
+     */
+    private static void mapMockPlayersTo(Origin origin) {
+        OriginMappings previous = PlayerOriginManager.getMappings();
+        CLEANUP.push(() -> PlayerOriginManager.replaceMappings(previous));
+        PlayerOriginManager.replaceMappings(OriginMappings.resolve(Map.of(MOCK_PLAYER_NAME, origin), Map.of()));
+    }
+    
+    /**
+     * Logs in a mock player who is logged out again after the batch if the test did not do so
+     */
+    private static ServerPlayer logIn(GameTestHelper helper) {
+        ServerPlayer player = helper.makeMockServerPlayerInLevel();
+        CLEANUP.push(() -> logOut(player.server, player));
+        return player;
+    }
+    
+    /**
+     * Logs out a mock player unless they already were
+     */
+    private static void logOut(MinecraftServer server, ServerPlayer player) {
+        if (server.getPlayerList().getPlayer(player.getUUID()) == player) {
+            server.getPlayerList().remove(player);
+        }
+    }
+    
+    /**
+     * Deletes a temporary directory and its files
+     */
+    private static void deleteDirectory(Path dir) {
+        try (Stream<Path> files = Files.walk(dir)) {
+            for (Path file : files.sorted(Comparator.reverseOrder()).toList()) {
+                Files.delete(file);
+            }
+        } catch (IOException e) {
+            MagicOriginsMod.LOGGER.warn("Failed to delete {}: {}", dir, e.getMessage());
+        }
+    }
+    
+    /**
+     * Fails the test if the average tick time over the last 100 ticks exceeds one tick at 20 TPS
+     */
+    private static void assertTickTime(GameTestHelper helper, MinecraftServer server) {
+        float tickMillis = server.getAverageTickTime();
+        helper.assertTrue(tickMillis <= TICK_BUDGET_MILLIS,
+            "Average tick took " + tickMillis + " ms, budget " + TICK_BUDGET_MILLIS + " ms");
+    }
+    
+    /**
+     * Samples recorded by a latency histogram since the window was opened
+     */
+    private static final class BudgetWindow {
+        
+        private final MetricsRegistry.Histogram histogram;
+        private final long startCount;
+        private final long startSumNanos;
+        
+        private BudgetWindow(MetricsRegistry.Histogram histogram) {
+            this.histogram = histogram;
+            this.startCount = histogram.getCount();
+            this.startSumNanos = histogram.getSumNanos();
+        }
+        
+        /**
+         * Fails the test if too few samples were recorded or their mean exceeds the budget
+         */
+        private void assertMeanBelow(GameTestHelper helper, long budgetNanos, int minSamples) {
+            long samples = histogram.getCount() - startCount;
+            helper.assertTrue(samples >= minSamples,
+                histogram.name() + " recorded " + samples + " samples, expected at least " + minSamples);
+            
+            long meanNanos = (histogram.getSumNanos() - startSumNanos) / samples;
+            helper.assertTrue(meanNanos <= budgetNanos,
+                histogram.name() + " took " + meanNanos + " ns on average, budget " + budgetNanos + " ns");
+        }
+    }
+}
\ No newline at end of file
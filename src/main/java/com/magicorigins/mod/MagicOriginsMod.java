@@ -1,8 +1,11 @@
 package com.magicorigins.mod;
 
 import net.minecraft.resources.ResourceLocation;
-import net.minecraftforge.common.MinecraftForge;
+import net.minecraftforge.eventbus.api.IEventBus;
+import net.minecraftforge.fml.ModLoadingContext;
 import net.minecraftforge.fml.common.Mod;
+import net.minecraftforge.fml.config.ModConfig;
+import net.minecraftforge.fml.javafmlmod.FMLJavaModLoadingContext;
 import net.minecraftforge.fml.javadoc.Deprecated;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
@@ -30,20 +33,27 @@ public class MagicOriginsMod {
     
     /**
      * Main constructor for the mod
-     * Initializes event handlers and registers components
+     * Only registers config, listeners and packets; heavy initialization runs in {@link ModStartup} during common setup.
+     * Forge event handlers register themselves through {@code @Mod.EventBusSubscriber}
      */
     public MagicOriginsMod() {
+        long start = System.nanoTime();
         LOGGER.info("Magic Origins Mod initializing...");
         
-        // Register event handlers
-        MinecraftForge.EVENT_BUS.register(OriginAssignmentHandler.class);
-        MinecraftForge.EVENT_BUS.register(WardenLootHandler.class);
-        MinecraftForge.EVENT_BUS.register(PlayerDataHandler.class);
+        // Register server config
+        ModLoadingContext.get().registerConfig(ModConfig.Type.SERVER, MagicOriginsConfig.SPEC);
         
-        // Initialize player origin mappings
-        PlayerOriginManager.initialize();
+        // Register mod bus listeners
+        IEventBus modEventBus = FMLJavaModLoadingContext.get().getModEventBus();
+        modEventBus.addListener(PlayerModDataProvider::registerCapability);
+        modEventBus.addListener(MagicOriginsConfig::onConfigLoad);
+        modEventBus.addListener(ModStartup::onCommonSetup);
+        modEventBus.addListener(ModStartup::onLoadComplete);
         
-        LOGGER.info("Magic Origins Mod initialized successfully!");
+        // Register network packets
+        MagicOriginsNetwork.register();
+        
+        ModStartup.constructed(start);
     }
     
     /**
@@ -0,0 +1,56 @@
+package com.magicorigins.mod;
+
+import net.minecraft.server.level.ServerPlayer;
+import net.minecraftforge.network.NetworkDirection;
+import net.minecraftforge.network.NetworkRegistry;
+import net.minecraftforge.network.PacketDistributor;
+import net.minecraftforge.network.simple.SimpleChannel;
+
+/**
+ * Network channel between the server and clients that have the mod installed
+ * Clients without the mod can still join; they are simply never sent packets
+ * 
+ * @author MagicOrigins Mod Team
+ * @version 1.0.0
+ */
+public class MagicOriginsNetwork {
+    
+    /**
+     * Protocol version; bump when a packet format changes
+     */
+    private static final String PROTOCOL_VERSION = "1";
+    
+    /**
+     * The mod's network channel
+     */
+    public static final SimpleChannel CHANNEL = NetworkRegistry.newSimpleChannel(
+        MagicOriginsMod.location("main"),
+        () -> PROTOCOL_VERSION,
+        NetworkRegistry.acceptMissingOr(PROTOCOL_VERSION),
+        NetworkRegistry.acceptMissingOr(PROTOCOL_VERSION)
+    );
+    
+    /**
+     * Registers the channel's packets
+     * Must be called during mod construction
+     */
+    public static void register() {
+        CHANNEL.messageBuilder(OriginStatePacket.class, 0, NetworkDirection.PLAY_TO_CLIENT)
+            .encoder(OriginStatePacket::encode)
+            .decoder(OriginStatePacket::decode)
+            .consumerMainThread(OriginStatePacket::handle)
+            .add();
+    }
+    
+    /**
+     * Sends a packet to a player if the player's client has the mod
+     * 
+     * @param player The receiving player
+     * @param packet The packet to send
+     */
+    public static void sendTo(ServerPlayer player, Object packet) {
+        if (CHANNEL.isRemotePresent(player.connection.connection)) {
+            CHANNEL.send(PacketDistributor.PLAYER.with(() -> player), packet);
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,87 @@
+package com.magicorigins.mod;
+
+import net.minecraftforge.event.server.ServerStartedEvent;
+import net.minecraftforge.event.server.ServerStoppingEvent;
+import net.minecraftforge.eventbus.api.SubscribeEvent;
+import net.minecraftforge.fml.common.Mod;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Periodically writes all metrics in Prometheus text format to a local file
+ * The file can be scraped by node_exporter's textfile collector
+ * 
+ * @author MagicOrigins Mod Team
+ * @version 1.0.0
+ */
+@Mod.EventBusSubscriber(modid = MagicOriginsMod.MOD_ID)
+public class MetricsExporter {
+    
+    /**
+     * Name of the metrics file in the server directory
+     */
+    private static final String METRICS_FILE_NAME = "magicorigins-metrics.prom";
+    
+    /**
+     * Background executor writing the metrics file, or null when not running
+     */
+    private static ScheduledExecutorService executor;
+    
+    /**
+     * Starts the periodic dump when the server has started
+     * 
+     * @param event The ServerStartedEvent
+     */
+    @SubscribeEvent
+    public static void onServerStarted(ServerStartedEvent event) {
+        int intervalSeconds = MagicOriginsConfig.metricsDumpIntervalSeconds;
+        if (intervalSeconds <= 0) {
+            return;
+        }
+        
+        Path file = event.getServer().getServerDirectory().toPath().resolve(METRICS_FILE_NAME);
+        executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "MagicOrigins Metrics");
+            thread.setDaemon(true);
+            return thread;
+        });
+        executor.scheduleAtFixedRate(() -> dump(file), intervalSeconds, intervalSeconds, TimeUnit.SECONDS);
+        
+        MagicOriginsMod.LOGGER.info("Writing metrics to {} every {} seconds", file, intervalSeconds);
+    }
+    
+    /**
+     * Stops the periodic dump when the server stops
+     * 
+     * @param event The ServerStoppingEvent
+     */
+    @SubscribeEvent
+    public static void onServerStopping(ServerStoppingEvent event) {
+        if (executor != null) {
+            executor.shutdownNow();
+            executor = null;
+        }
+    }
+    
+    /**
+     * Writes the metrics file atomically so scrapers never read a partial file
+     * 
+     * @param file The metrics file
+     */
+    private static void dump(Path file) {
+        Path temp = file.resolveSibling(METRICS_FILE_NAME + ".tmp");
+        try {
+            Files.writeString(temp, MetricsRegistry.toPrometheusText(), StandardCharsets.UTF_8);
+            Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            MagicOriginsMod.LOGGER.error("Failed to write metrics file {}: {}", file, e.getMessage());
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,358 @@
+package com.magicorigins.mod;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+/**
+ * Lightweight in-process metrics registry
+ * Recording is lock-free and allocation-free; formatting only happens when metrics are exported
+ * 
+ * @author MagicOrigins Mod Team
+ * @version 1.0.0
+ */
+public class MetricsRegistry {
+    
+    /**
+     * All registered metrics, in registration order
+     */
+    private static final List<Metric> METRICS = new CopyOnWriteArrayList<>();
+    
+    /**
+     * Registers a counter
+     * 
+     * @param name Prometheus metric name
+     * @param help Description of the metric
+     * @return The new counter
+     */
+    public static Counter counter(String name, String help) {
+        return register(new Counter(name, help));
+    }
+    
+    /**
+     * Registers a gauge whose value is read when metrics are exported
+     * 
+     * @param name Prometheus metric name
+     * @param help Description of the metric
+     * @param value Supplier of the current value
+     */
+    public static void gauge(String name, String help, LongSupplier value) {
+        register(new FunctionMetric(name, help, "gauge", value));
+    }
+    
+    /**
+     * Registers a counter whose value is maintained elsewhere and read when metrics are exported
+     * 
+     * @param name Prometheus metric name
+     * @param help Description of the metric
+     * @param value Supplier of the current count
+     */
+    public static void functionCounter(String name, String help, LongSupplier value) {
+        register(new FunctionMetric(name, help, "counter", value));
+    }
+    
+    /**
+     * Registers a latency histogram
+     * 
+     * @param name Prometheus metric name, in seconds
+     * @param help Description of the metric
+     * @return The new histogram
+     */
+    public static Histogram histogram(String name, String help) {
+        return register(new Histogram(name, help));
+    }
+    
+    /**
+     * Gets all registered metrics
+     * 
+     * @return Unmodifiable list of metrics
+     */
+    public static List<Metric> getMetrics() {
+        return Collections.unmodifiableList(METRICS);
+    }
+    
+    /**
+     * Formats all metrics in the Prometheus text exposition format
+     * 
+     * @return The exported metrics
+     */
+    public static String toPrometheusText() {
+        StringBuilder out = new StringBuilder(4096);
+        for (Metric metric : METRICS) {
+            out.append("# HELP ").append(metric.name()).append(' ').append(metric.help()).append('\n');
+            out.append("# TYPE ").append(metric.name()).append(' ').append(metric.type()).append('\n');
+            metric.writePrometheus(out);
+        }
+        return out.toString();
+    }
+    
+    /**
+     * Formats a one-line human-readable summary of each metric
+     * 
+     * @return Summary lines
+     */
+    public static List<String> summarize() {
+        List<String> lines = new ArrayList<>(METRICS.size());
+        for (Metric metric : METRICS) {
+            lines.add(metric.name() + ": " + metric.summary());
+        }
+        return lines;
+    }
+    
+    private static <T extends Metric> T register(T metric) {
+        for (Metric existing : METRICS) {
+            if (existing.name().equals(metric.name())) {
+                throw new IllegalArgumentException("Duplicate metric: " + metric.name());
+            }
+        }
+        METRICS.add(metric);
+        return metric;
+    }
+    
+    /**
+     * Common interface of all metric types
+     */
+    public interface Metric {
+        
+        /**
+         * @return Prometheus metric name
+         */
+        String name();
+        
+        /**
+         * @return Description of the metric
+         */
+        String help();
+        
+        /**
+         * @return Prometheus metric type
+         */
+        String type();
+        
+        /**
+         * Appends the metric's samples in Prometheus text format
+         * 
+         * @param out Output buffer
+         */
+        void writePrometheus(StringBuilder out);
+        
+        /**
+         * @return Short human-readable summary of the current value
+         */
+        String summary();
+    }
+    
+    /**
+     * Monotonic counter
+     */
+    public static final class Counter implements Metric {
+        private final String name;
+        private final String help;
+        private final LongAdder value = new LongAdder();
+        
+        private Counter(String name, String help) {
+            this.name = name;
+            this.help = help;
+        }
+        
+        /**
+         * Adds one to the counter
+         */
+        public void increment() {
+            value.increment();
+        }
+        
+        /**
+         * Adds to the counter
+         * 
+         * @param amount Amount to add
+         */
+        public void add(long amount) {
+            value.add(amount);
+        }
+        
+        /**
+         * @return Current count
+         */
+        public long get() {
+            return value.sum();
+        }
+        
+        @Override
+        public String name() {
+            return name;
+        }
+        
+        @Override
+        public String help() {
+            return help;
+        }
+        
+        @Override
+        public String type() {
+            return "counter";
+        }
+        
+        @Override
+        public void writePrometheus(StringBuilder out) {
+            out.append(name).append(' ').append(get()).append('\n');
+        }
+        
+        @Override
+        public String summary() {
+            return Long.toString(get());
+        }
+    }
+    
+    /**
+     * Gauge or counter backed by a supplier
+     */
+    private record FunctionMetric(String name, String help, String type, LongSupplier value) implements Metric {
+        
+        @Override
+        public void writePrometheus(StringBuilder out) {
+            out.append(name).append(' ').append(value.getAsLong()).append('\n');
+        }
+        
+        @Override
+        public String summary() {
+            return Long.toString(value.getAsLong());
+        }
+    }
+    
+    /**
+     * Latency histogram with fixed power-of-two buckets from 1 microsecond to about 1 second
+     */
+    public static final class Histogram implements Metric {
+        
+        /**
+         * log2 of the upper bound of the first bucket in nanoseconds (1024 ns)
+         */
+        private static final int FIRST_BUCKET_SHIFT = 10;
+        
+        /**
+         * Number of finite buckets; the last one ends at 2^30 ns (about 1.07 s)
+         */
+        private static final int FINITE_BUCKETS = 21;
+        
+        private final String name;
+        private final String help;
+        private final AtomicLongArray buckets = new AtomicLongArray(FINITE_BUCKETS + 1);
+        private final LongAdder count = new LongAdder();
+        private final LongAdder sumNanos = new LongAdder();
+        
+        private Histogram(String name, String help) {
+            this.name = name;
+            this.help = help;
+        }
+        
+        /**
+         * Records a duration
+         * 
+         * @param nanos Duration in nanoseconds
+         */
+        public void record(long nanos) {
+            long clamped = Math.max(0L, nanos);
+            int bucket = (64 - Long.numberOfLeadingZeros(Math.max(0L, clamped - 1))) - FIRST_BUCKET_SHIFT;
+            buckets.incrementAndGet(Math.max(0, Math.min(FINITE_BUCKETS, bucket)));
+            count.increment();
+            sumNanos.add(clamped);
+        }
+        
+        /**
+         * Records the time elapsed since a start timestamp
+         * 
+         * @param startNanos Start timestamp from {@link System#nanoTime()}
+         */
+        public void recordSince(long startNanos) {
+            record(System.nanoTime() - startNanos);
+        }
+        
+        /**
+         * @return Number of recorded samples
+         */
+        public long getCount() {
+            return count.sum();
+        }
+        
+        /**
+         * @return Sum of all recorded durations in nanoseconds
+         */
+        public long getSumNanos() {
+            return sumNanos.sum();
+        }
+        
+        @Override
+        public String name() {
+            return name;
+        }
+        
+        @Override
+        public String help() {
+            return help;
+        }
+        
+        @Override
+        public String type() {
+            return "histogram";
+        }
+        
+        @Override
+        public void writePrometheus(StringBuilder out) {
+            long cumulative = 0L;
+            for (int i = 0; i < FINITE_BUCKETS; i++) {
+                cumulative += buckets.get(i);
+                double upperSeconds = (1L << (FIRST_BUCKET_SHIFT + i)) / 1e9;
+                out.append(name).append("_bucket{le=\"")
+                    .append(String.format(Locale.ROOT, "%.9g", upperSeconds))
+                    .append("\"} ").append(cumulative).append('\n');
+            }
+            cumulative += buckets.get(FINITE_BUCKETS);
+            out.append(name).append("_bucket{le=\"+Inf\"} ").append(cumulative).append('\n');
+            out.append(name).append("_sum ").append(String.format(Locale.ROOT, "%.9f", sumNanos.sum() / 1e9)).append('\n');
+            out.append(name).append("_count ").append(count.sum()).append('\n');
+        }
+        
+        @Override
+        public String summary() {
+            long samples = count.sum();
+            if (samples == 0) {
+                return "no samples";
+            }
+            return String.format(Locale.ROOT, "count=%d mean=%.1fus p99<=%s",
+                samples, sumNanos.sum() / 1e3 / samples, formatNanos(percentileUpperBound(0.99)));
+        }
+        
+        /**
+         * Gets the upper bound of the bucket containing the given percentile
+         * 
+         * @param percentile Percentile between 0 and 1
+         * @return Upper bound in nanoseconds, or Long.MAX_VALUE for the overflow bucket
+         */
+        public long percentileUpperBound(double percentile) {
+            long target = (long) Math.ceil(count.sum() * percentile);
+            long cumulative = 0L;
+            for (int i = 0; i < FINITE_BUCKETS; i++) {
+                cumulative += buckets.get(i);
+                if (cumulative >= target) {
+                    return 1L << (FIRST_BUCKET_SHIFT + i);
+                }
+            }
+            return Long.MAX_VALUE;
+        }
+        
+        private static String formatNanos(long nanos) {
+            if (nanos == Long.MAX_VALUE) {
+                return "inf";
+            }
+            return nanos >= 1_000_000L
+                ? String.format(Locale.ROOT, "%.1fms", nanos / 1e6)
+                : String.format(Locale.ROOT, "%.1fus", nanos / 1e3);
+        }
+    }
+}
\ No newline at end of file
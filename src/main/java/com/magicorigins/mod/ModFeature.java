@@ -0,0 +1,113 @@
+package com.magicorigins.mod;
+
+import net.minecraft.server.MinecraftServer;
+import net.minecraftforge.common.MinecraftForge;
+import net.minecraftforge.server.ServerLifecycleHooks;
+
+import java.util.function.BooleanSupplier;
+import java.util.function.Consumer;
+
+/**
+ * Optional features that can be switched off in the server config
+ * Each feature owns a listener class that is registered on the Forge event bus only while the feature is
+ * enabled, so a disabled feature adds no listener to any event. The registration follows the config,
+ * including reloads while the server runs
+ * 
+ * @author MagicOrigins Mod Team
+ * @version 1.0.0
+ */
+public enum ModFeature {
+    
+    /**
+     * Datapack loot rules, such as the Warden totem drop
+     */
+    LOOT_RULES("lootRules", EntityLootHandler.class, () -> MagicOriginsConfig.lootRulesEnabled, null, null),
+    
+    /**
+     * Progression counters fed by block, combat, environment and playtime events, and the progress
+     * recomputed on login and origin changes; callers outside the listener class check {@link #isEnabled()}
+     */
+    ABILITY_PROGRESSION("abilityProgression", AbilityProgressionEngine.class,
+        () -> MagicOriginsConfig.abilityProgressionEnabled, null, null),
+    
+    /**
+     * Periodic evaluation of passive origin abilities
+     */
+    PASSIVE_ABILITIES("passiveAbilities", PassiveAbilityEngine.class,
+        () -> MagicOriginsConfig.passiveAbilitiesEnabled, PassiveAbilityEngine::trackOnlinePlayers,
+        PassiveAbilityEngine::clear);
+    
+    /**
+     * Name of the feature's config option
+     */
+    private final String configName;
+    
+    /**
+     * Class whose static event handlers belong to the feature
+     */
+    private final Class<?> listenerClass;
+    
+    /**
+     * Baked config value of the feature
+     */
+    private final BooleanSupplier configured;
+    
+    /**
+     * Work run on the server thread after the feature was enabled or disabled while a server runs, or null
+     */
+    private final Consumer<MinecraftServer> onEnable;
+    private final Runnable onDisable;
+    
+    /**
+     * Whether the listener class is currently registered
+     */
+    private volatile boolean enabled = false;
+    
+    ModFeature(String configName, Class<?> listenerClass, BooleanSupplier configured,
+               Consumer<MinecraftServer> onEnable, Runnable onDisable) {
+        this.configName = configName;
+        this.listenerClass = listenerClass;
+        this.configured = configured;
+        this.onEnable = onEnable;
+        this.onDisable = onDisable;
+    }
+    
+    /**
+     * Checks if the feature is enabled
+     * 
+     * @return true if the feature's listeners are registered
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+    
+    /**
+     * Registers or unregisters each feature's listeners to match the baked config
+     * Called whenever the server config loads or reloads, possibly off the server thread
+     */
+    public static synchronized void applyConfig() {
+        MinecraftServer server = ServerLifecycleHooks.getCurrentServer();
+        for (ModFeature feature : values()) {
+            boolean wanted = feature.configured.getAsBoolean();
+            if (wanted == feature.enabled) {
+                continue;
+            }
+            
+            if (wanted) {
+                MinecraftForge.EVENT_BUS.register(feature.listenerClass);
+                feature.enabled = true;
+                if (server != null && feature.onEnable != null) {
+                    server.execute(() -> feature.onEnable.accept(server));
+                }
+            } else {
+                MinecraftForge.EVENT_BUS.unregister(feature.listenerClass);
+                feature.enabled = false;
+                if (server != null && feature.onDisable != null) {
+                    server.execute(feature.onDisable);
+                }
+            }
+            
+            MagicOriginsMod.LOGGER.info("Feature {} {}", feature.configName, wanted ? "enabled" : "disabled");
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,262 @@
+package com.magicorigins.mod;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.EventType;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import net.minecraft.world.entity.EntityType;
+
+import java.util.UUID;
+
+/**
+ * Java Flight Recorder events emitted by the mod's login, assignment, persistence, cache and loot paths
+ * Events are started through the {@code begin*} methods, which check {@link EventType#isEnabled()} first
+ * and return null without allocating while no recording enables the type. {@code finish} accepts that null,
+ * and otherwise fills in and commits the event only when {@code shouldCommit()} is true, so with recording
+ * off every event site costs a flag check. They are enabled by the bundled {@code magicorigins.jfc} profile
+ * 
+ * @author MagicOrigins Mod Team
+ * @version 1.0.0
+ */
+public final class ModJfrEvents {
+    
+    /**
+     * Category shown for all events in JDK Mission Control
+     */
+    private static final String CATEGORY = "Magic Origins";
+    
+    /**
+     * Registered types of the events, checked before an event is allocated
+     */
+    private static final EventType LOGIN_TYPE = EventType.getEventType(Login.class);
+    private static final EventType ORIGIN_ASSIGNMENT_TYPE = EventType.getEventType(OriginAssignment.class);
+    private static final EventType PLAYER_DATA_TYPE = EventType.getEventType(PlayerData.class);
+    private static final EventType ORIGIN_CACHE_TYPE = EventType.getEventType(OriginCacheAccess.class);
+    private static final EventType LOOT_TYPE = EventType.getEventType(Loot.class);
+    
+    private ModJfrEvents() {
+    }
+    
+    /**
+     * Starts a login event
+     * 
+     * @return The started event, or null if no recording enables it
+     */
+    public static Login beginLogin() {
+        return LOGIN_TYPE.isEnabled() ? begin(new Login()) : null;
+    }
+    
+    /**
+     * Starts an origin assignment event
+     * 
+     * @return The started event, or null if no recording enables it
+     */
+    public static OriginAssignment beginOriginAssignment() {
+        return ORIGIN_ASSIGNMENT_TYPE.isEnabled() ? begin(new OriginAssignment()) : null;
+    }
+    
+    /**
+     * Starts a player data event
+     * 
+     * @param operation Operation name (load, save, reset, write)
+     * @return The started event, or null if no recording enables it
+     */
+    public static PlayerData beginPlayerData(String operation) {
+        return PLAYER_DATA_TYPE.isEnabled() ? begin(new PlayerData(operation)) : null;
+    }
+    
+    /**
+     * Starts an origin cache access event
+     * 
+     * @param operation Operation name (get, put, invalidate, evict)
+     * @return The started event, or null if no recording enables it
+     */
+    public static OriginCacheAccess beginOriginCache(String operation) {
+        return ORIGIN_CACHE_TYPE.isEnabled() ? begin(new OriginCacheAccess(operation)) : null;
+    }
+    
+    /**
+     * Starts a loot event
+     * 
+     * @return The started event, or null if no recording enables it
+     */
+    public static Loot beginLoot() {
+        return LOOT_TYPE.isEnabled() ? begin(new Loot()) : null;
+    }
+    
+    /**
+     * Ends and commits a player event started by one of the {@code begin*} methods
+     * 
+     * @param event The event, or null if it was not started
+     * @param player The player's UUID
+     * @param playerOrigin The player's origin, or null if none
+     * @param result Short outcome of the operation
+     */
+    public static void finish(PlayerOperation event, UUID player, Origin playerOrigin, String result) {
+        if (event != null) {
+            event.finish(player, playerOrigin, result);
+        }
+    }
+    
+    /**
+     * Ends and commits a loot event started by {@link #beginLoot()}
+     * 
+     * @param event The event, or null if it was not started
+     * @param type The entity type
+     * @param dropCount Number of drops added
+     * @param heldForCoalescing Whether the drops were handed to the drop coalescer
+     * @param result Short outcome
+     */
+    public static void finish(Loot event, EntityType<?> type, int dropCount, boolean heldForCoalescing, String result) {
+        if (event != null) {
+            event.finish(type, dropCount, heldForCoalescing, result);
+        }
+    }
+    
+    /**
+     * Starts timing an event
+     */
+    private static <T extends Event> T begin(T event) {
+        event.begin();
+        return event;
+    }
+    
+    /**
+     * Common fields of events about one player
+     */
+    @Category(CATEGORY)
+    @StackTrace(false)
+    public abstract static class PlayerOperation extends Event {
+        
+        @Label("Player UUID")
+        String playerUuid;
+        
+        @Label("Origin")
+        String origin;
+        
+        @Label("Outcome")
+        String outcome;
+        
+        /**
+         * Ends the event and commits it with its fields if it is recorded
+         * 
+         * @param player The player's UUID
+         * @param playerOrigin The player's origin, or null if none
+         * @param result Short outcome of the operation
+         */
+        void finish(UUID player, Origin playerOrigin, String result) {
+            end();
+            if (shouldCommit()) {
+                playerUuid = player.toString();
+                origin = playerOrigin != null ? playerOrigin.getName() : null;
+                outcome = result;
+                commit();
+            }
+        }
+    }
+    
+    /**
+     * A player's pass through the login pipeline, excluding deferred steps
+     */
+    @Name("magicorigins.Login")
+    @Label("Player Login")
+    @Description("Synchronous part of the login pipeline")
+    public static final class Login extends PlayerOperation {
+    }
+    
+    /**
+     * Assignment of a mapped origin to a player
+     */
+    @Name("magicorigins.OriginAssignment")
+    @Label("Origin Assignment")
+    @Description("Storing, indexing and forwarding an assigned origin")
+    public static final class OriginAssignment extends PlayerOperation {
+    }
+    
+    /**
+     * Load, save, reset or background write of a player's mod data
+     */
+    @Name("magicorigins.PlayerData")
+    @Label("Player Data")
+    @Description("Player data load on login, save, reset or background file write")
+    public static final class PlayerData extends PlayerOperation {
+        
+        @Label("Operation")
+        String operation;
+        
+        /**
+         * Creates an event for an operation
+         * 
+         * @param operation Operation name (load, save, reset, write)
+         */
+        public PlayerData(String operation) {
+            this.operation = operation;
+        }
+    }
+    
+    /**
+     * Lookup or update of the UUID origin cache
+     */
+    @Name("magicorigins.OriginCache")
+    @Label("Origin Cache Access")
+    @Description("Lookup, insertion or eviction in the UUID origin cache")
+    public static final class OriginCacheAccess extends PlayerOperation {
+        
+        @Label("Operation")
+        String operation;
+        
+        /**
+         * Creates an event for an operation
+         * 
+         * @param operation Operation name (get, put, invalidate, evict)
+         */
+        public OriginCacheAccess(String operation) {
+            this.operation = operation;
+        }
+    }
+    
+    /**
+     * Rule-based drops added for a dying entity
+     */
+    @Name("magicorigins.Loot")
+    @Label("Loot Rule Drops")
+    @Description("Applying loot rules to an entity's drops")
+    @Category(CATEGORY)
+    @StackTrace(false)
+    public static final class Loot extends Event {
+        
+        @Label("Entity Type")
+        String entityType;
+        
+        @Label("Drops")
+        int drops;
+        
+        @Label("Coalesced")
+        boolean coalesced;
+        
+        @Label("Outcome")
+        String outcome;
+        
+        /**
+         * Ends the event and commits it with its fields if it is recorded
+         * 
+         * @param type The entity type
+         * @param dropCount Number of drops added
+         * @param heldForCoalescing Whether the drops were handed to the drop coalescer
+         * @param result Short outcome
+         */
+        void finish(EntityType<?> type, int dropCount, boolean heldForCoalescing, String result) {
+            end();
+            if (shouldCommit()) {
+                entityType = EntityType.getKey(type).toString();
+                drops = dropCount;
+                coalesced = heldForCoalescing;
+                outcome = result;
+                commit();
+            }
+        }
+    }
+}
\ No newline at end of file
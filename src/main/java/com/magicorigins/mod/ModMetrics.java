@@ -0,0 +1,105 @@
+package com.magicorigins.mod;
+
+/**
+ * The metrics recorded by this mod
+ * 
+ * @author MagicOrigins Mod Team
+ * @version 1.0.0
+ */
+public class ModMetrics {
+    
+    /**
+     * Login handling
+     */
+    public static final MetricsRegistry.Counter LOGINS =
+        MetricsRegistry.counter("magicorigins_logins_total", "Player logins handled by the login pipeline");
+    public static final MetricsRegistry.Histogram LOGIN_LATENCY =
+        MetricsRegistry.histogram("magicorigins_login_seconds", "Time spent in the login pipeline on the login tick");
+    
+    /**
+     * Origin assignment
+     */
+    public static final MetricsRegistry.Counter ASSIGNMENTS =
+        MetricsRegistry.counter("magicorigins_origin_assignments_total", "Origins assigned to players");
+    public static final MetricsRegistry.Counter ASSIGNMENT_FAILURES =
+        MetricsRegistry.counter("magicorigins_origin_assignment_failures_total", "Origin assignments that failed");
+    public static final MetricsRegistry.Histogram ASSIGNMENT_LATENCY =
+        MetricsRegistry.histogram("magicorigins_origin_assignment_seconds", "Time spent assigning an origin");
+    
+    /**
+     * Player data load and save
+     */
+    public static final MetricsRegistry.Histogram PLAYER_DATA_LOAD_LATENCY =
+        MetricsRegistry.histogram("magicorigins_player_data_load_seconds", "Time spent loading player data on login");
+    public static final MetricsRegistry.Histogram PLAYER_DATA_SAVE_LATENCY =
+        MetricsRegistry.histogram("magicorigins_player_data_save_seconds", "Time spent serializing dirty player data");
+    public static final MetricsRegistry.Counter PLAYER_DATA_SAVES_SKIPPED =
+        MetricsRegistry.counter("magicorigins_player_data_saves_skipped_total", "Player saves skipped because data was clean");
+    public static final MetricsRegistry.Histogram PLAYER_DATA_WRITE_LATENCY =
+        MetricsRegistry.histogram("magicorigins_player_data_write_seconds", "Time spent writing one player data file");
+    public static final MetricsRegistry.Counter PLAYER_DATA_WRITE_FAILURES =
+        MetricsRegistry.counter("magicorigins_player_data_write_failures_total", "Player data file writes that failed");
+    
+    /**
+     * Shared origin store
+     */
+    public static final MetricsRegistry.Counter SHARED_STORE_READS =
+        MetricsRegistry.counter("magicorigins_shared_store_reads_total", "Shared origin entries read on a cache miss");
+    public static final MetricsRegistry.Counter SHARED_STORE_REMOTE_UPDATES =
+        MetricsRegistry.counter("magicorigins_shared_store_remote_updates_total", "Cached shared origin entries replaced by a newer file");
+    public static final MetricsRegistry.Counter SHARED_STORE_WRITE_FAILURES =
+        MetricsRegistry.counter("magicorigins_shared_store_write_failures_total", "Shared origin entry writes that failed");
+    
+    /**
+     * Loot handling
+     */
+    public static final MetricsRegistry.Counter LOOT_EVENTS =
+        MetricsRegistry.counter("magicorigins_loot_events_total", "Drop events of entity types with loot rules");
+    public static final MetricsRegistry.Counter LOOT_DROPS =
+        MetricsRegistry.counter("magicorigins_loot_drops_total", "Item drops added by the loot handler");
+    public static final MetricsRegistry.Counter LOOT_DROPS_COALESCED =
+        MetricsRegistry.counter("magicorigins_loot_drops_coalesced_total", "Loot drops merged into an already held stack");
+    public static final MetricsRegistry.Histogram LOOT_LATENCY =
+        MetricsRegistry.histogram("magicorigins_loot_seconds", "Time spent adding drops for handled entities");
+    
+    /**
+     * Passive abilities
+     */
+    public static final MetricsRegistry.Histogram PASSIVE_TICK_LATENCY =
+        MetricsRegistry.histogram("magicorigins_passive_tick_seconds", "Time spent evaluating one slot of passive abilities");
+    
+    /**
+     * Client sync
+     */
+    public static final MetricsRegistry.Counter SYNC_PACKETS =
+        MetricsRegistry.counter("magicorigins_sync_packets_total", "Origin state deltas sent to player clients");
+    
+    static {
+        MetricsRegistry.gauge("magicorigins_deferred_tasks", "Deferred login tasks waiting to run",
+            TickBudgetScheduler::getPendingCount);
+        MetricsRegistry.gauge("magicorigins_origin_mappings", "Configured player origin mappings",
+            PlayerOriginManager::getMappingCount);
+        MetricsRegistry.gauge("magicorigins_loot_drops_pending", "Loot drop stacks held for coalescing",
+            DropCoalescer::getPendingCount);
+        MetricsRegistry.gauge("magicorigins_player_data_writes_pending", "Player data snapshots waiting to be written",
+            PlayerDataStore::getPendingCount);
+        MetricsRegistry.gauge("magicorigins_shared_store_cached_entries", "Shared origin entries held in the local cache",
+            SharedOriginStore::getCachedCount);
+        
+        MetricsRegistry.functionCounter("magicorigins_origin_cache_hits_total", "Origin cache lookups that hit",
+            () -> PlayerOriginManager.getCacheStats().hits());
+        MetricsRegistry.functionCounter("magicorigins_origin_cache_misses_total", "Origin cache lookups that missed",
+            () -> PlayerOriginManager.getCacheStats().misses());
+        MetricsRegistry.functionCounter("magicorigins_origin_cache_evictions_total", "Origin cache evictions",
+            () -> PlayerOriginManager.getCacheStats().evictions());
+        MetricsRegistry.gauge("magicorigins_origin_cache_size", "Entries in the origin cache",
+            () -> PlayerOriginManager.getCacheStats().size());
+    }
+    
+    /**
+     * Forces the metric definitions to be registered
+     */
+    public static void initialize() {
+        MagicOriginsMod.LOGGER.debug("Registered {} metrics", MetricsRegistry.getMetrics().size());
+    }
+}
\ No newline at end of file
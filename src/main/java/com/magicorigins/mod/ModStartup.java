@@ -0,0 +1,110 @@
+package com.magicorigins.mod;
+
+import net.minecraft.Util;
+import net.minecraftforge.fml.event.lifecycle.FMLCommonSetupEvent;
+import net.minecraftforge.fml.event.lifecycle.FMLLoadCompleteEvent;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.StringJoiner;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Runs the mod's startup work off the mod construction thread
+ * The constructor only registers listeners; loading the mapping file, resolving the Origins bridge and building
+ * the rule and ability tables run as independent tasks on the background executor during common setup.
+ * The tables are frozen once mod loading completes, before the server accepts players, and a timing
+ * breakdown of all steps is logged
+ * 
+ * @author MagicOrigins Mod Team
+ * @version 1.0.0
+ */
+public class ModStartup {
+    
+    /**
+     * Independent setup tasks in logging order
+     */
+    private static final List<Step> SETUP_STEPS = List.of(
+        new Step("origin mappings", PlayerOriginManager::initialize),
+        new Step("origins bridge", OriginsIntegration::initialize),
+        new Step("progression rules", AbilityProgressionEngine::registerDefaultRules),
+        new Step("passive abilities", PassiveAbilityEngine::registerDefaultAbilities),
+        new Step("metrics", ModMetrics::initialize)
+    );
+    
+    /**
+     * Time spent in the mod constructor
+     */
+    private static long constructNanos;
+    
+    /**
+     * Wall-clock time of common setup
+     */
+    private static long setupNanos;
+    
+    /**
+     * Time spent in each setup task, indexed like {@link #SETUP_STEPS}
+     */
+    private static final long[] STEP_NANOS = new long[SETUP_STEPS.size()];
+    
+    /**
+     * A named setup task
+     * 
+     * @param name Name shown in the timing breakdown
+     * @param task The work to run
+     */
+    private record Step(String name, Runnable task) {
+    }
+    
+    /**
+     * Records the time spent in the mod constructor
+     * 
+     * @param start The constructor's start time from {@link System#nanoTime()}
+     */
+    static void constructed(long start) {
+        constructNanos = System.nanoTime() - start;
+    }
+    
+    /**
+     * Runs all setup tasks in parallel and waits for them (mod event bus)
+     * A failing task fails mod loading, as it would have in the constructor
+     * 
+     * @param event The FMLCommonSetupEvent
+     */
+    public static void onCommonSetup(FMLCommonSetupEvent event) {
+        long start = System.nanoTime();
+        CompletableFuture<?>[] tasks = new CompletableFuture<?>[SETUP_STEPS.size()];
+        for (int i = 0; i < tasks.length; i++) {
+            int index = i;
+            tasks[i] = CompletableFuture.runAsync(() -> {
+                long stepStart = System.nanoTime();
+                SETUP_STEPS.get(index).task().run();
+                STEP_NANOS[index] = System.nanoTime() - stepStart;
+            }, Util.backgroundExecutor());
+        }
+        
+        CompletableFuture.allOf(tasks).join();
+        setupNanos = System.nanoTime() - start;
+    }
+    
+    /**
+     * Freezes the precomputed tables and logs the startup timing breakdown (mod event bus)
+     * 
+     * @param event The FMLLoadCompleteEvent
+     */
+    public static void onLoadComplete(FMLLoadCompleteEvent event) {
+        AbilityProgressionEngine.freeze();
+        PassiveAbilityEngine.freeze();
+        
+        StringJoiner breakdown = new StringJoiner(", ");
+        for (int i = 0; i < SETUP_STEPS.size(); i++) {
+            breakdown.add(SETUP_STEPS.get(i).name() + " " + millis(STEP_NANOS[i]) + " ms");
+        }
+        MagicOriginsMod.LOGGER.info("Magic Origins startup: constructor {} ms, common setup {} ms wall-clock ({})", 
+            millis(constructNanos), millis(setupNanos), breakdown);
+    }
+    
+    private static String millis(long nanos) {
+        return String.format(Locale.ROOT, "%.1f", nanos / 1_000_000.0);
+    }
+}
\ No newline at end of file
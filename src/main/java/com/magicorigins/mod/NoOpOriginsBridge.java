@@ -0,0 +1,40 @@
+package com.magicorigins.mod;
+
+import net.minecraft.server.level.ServerPlayer;
+
+import java.util.List;
+
+/**
+ * Origins bridge used when the Origins mod is not installed
+ * Origins are still stored in player NBT; nothing is forwarded
+ * 
+ * @author MagicOrigins Mod Team
+ * @version 1.0.0
+ */
+public class NoOpOriginsBridge implements OriginsBridge {
+    
+    /**
+     * Shared instance
+     */
+    public static final NoOpOriginsBridge INSTANCE = new NoOpOriginsBridge();
+    
+    private NoOpOriginsBridge() {
+    }
+    
+    @Override
+    public String getName() {
+        return "none";
+    }
+    
+    @Override
+    public void setOrigin(ServerPlayer player, Origin originType) {
+    }
+    
+    @Override
+    public void clearOrigin(ServerPlayer player) {
+    }
+    
+    @Override
+    public void syncAll(List<ServerPlayer> players) {
+    }
+}
\ No newline at end of file
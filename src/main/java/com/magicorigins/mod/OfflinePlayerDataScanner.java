@@ -0,0 +1,488 @@
+package com.magicorigins.mod;
+
+import com.mojang.authlib.GameProfile;
+import net.minecraft.nbt.CompoundTag;
+import net.minecraft.nbt.NbtIo;
+import net.minecraft.server.MinecraftServer;
+import net.minecraft.server.level.ServerPlayer;
+import net.minecraft.server.players.GameProfileCache;
+import net.minecraft.world.level.storage.LevelResource;
+import net.minecraftforge.event.entity.player.PlayerEvent;
+import net.minecraftforge.eventbus.api.SubscribeEvent;
+import net.minecraftforge.fml.common.Mod;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Scans the player data files of offline players on a worker pool
+ * Reports each player's origin and mod data, and can pre-assign mapped origins or reset origins in bulk.
+ * Online players are skipped because their files are rewritten when they are saved. Players who join
+ * while the scan runs are skipped from then on, and the scan's change is applied to them live once it ends.
+ * 
+ * A pre-assigned origin is stored but left unconfirmed, so the login pipeline completes
+ * the assignment (Origins mod, progression) the next time the player joins.
+ * 
+ * @author MagicOrigins Mod Team
+ * @version 1.0.0
+ */
+@Mod.EventBusSubscriber(modid = MagicOriginsMod.MOD_ID)
+public class OfflinePlayerDataScanner {
+    
+    /**
+     * What a scan does with each player file
+     */
+    public enum Mode {
+        /** Only report player state */
+        SCAN,
+        /** Store the mapped origin for players without one */
+        ASSIGN,
+        /** Remove the stored origin */
+        RESET
+    }
+    
+    /**
+     * State of one offline player
+     * 
+     * @param uuid Player UUID
+     * @param name Last known username, or null if not in the profile cache
+     * @param origin Stored origin, or null if none
+     * @param originAssigned Whether the assignment was completed at login
+     * @param hasModData Whether the player has mod data
+     * @param legacyModData Whether the mod data is still in the legacy location
+     * @param playtime Playtime in minutes
+     * @param abilityProgress Ability progress percentage
+     * @param unlockedAbilities Number of unlocked abilities
+     * @param modified Whether this scan rewrote the player's file
+     */
+    public record PlayerRecord(UUID uuid, String name, Origin origin, boolean originAssigned,
+                               boolean hasModData, boolean legacyModData, long playtime,
+                               float abilityProgress, int unlockedAbilities, boolean modified) {
+    }
+    
+    /**
+     * Outcome of a scan
+     * 
+     * @param mode The scan mode
+     * @param players Records of every parsed offline player
+     * @param skippedOnline Files skipped because the player is online
+     * @param failures Files that could not be read or written
+     * @param elapsedMillis Wall time of the scan
+     * @param report CSV report file, or null if it could not be written
+     */
+    public record Result(Mode mode, List<PlayerRecord> players, int skippedOnline, int failures,
+                         long elapsedMillis, Path report) {
+        
+        /**
+         * Gets the number of player files rewritten by the scan
+         * 
+         * @return Number of modified players
+         */
+        public int getModifiedCount() {
+            return (int) players.stream().filter(PlayerRecord::modified).count();
+        }
+    }
+    
+    /**
+     * Entity NBT key holding Forge persistent data
+     */
+    private static final String FORGE_DATA_KEY = "ForgeData";
+    
+    /**
+     * Entity NBT key holding serialized capabilities
+     */
+    private static final String FORGE_CAPS_KEY = "ForgeCaps";
+    
+    /**
+     * Report file written to the server directory after each scan
+     */
+    private static final String REPORT_FILE_NAME = "magicorigins-offline-scan.csv";
+    
+    /**
+     * Upper bound on scan worker threads
+     */
+    private static final int MAX_WORKERS = 8;
+    
+    /**
+     * Set while a scan is running; only one scan runs at a time
+     */
+    private static final AtomicBoolean RUNNING = new AtomicBoolean(false);
+    
+    /**
+     * Players who joined since the running scan started; filled on the server thread, read by the workers
+     */
+    private static final Set<UUID> JOINED_DURING_SCAN = ConcurrentHashMap.newKeySet();
+    
+    /**
+     * Starts a scan of all offline player files
+     * Must be called from the server thread; the returned future completes on a worker thread
+     * 
+     * @param server The Minecraft server
+     * @param mode What to do with each player file
+     * @param resetOrigin For {@link Mode#RESET}, the origin to reset, or null for every origin
+     * @return Future for the scan result, or null if a scan is already running
+     */
+    public static CompletableFuture<Result> start(MinecraftServer server, Mode mode, Origin resetOrigin) {
+        if (!RUNNING.compareAndSet(false, true)) {
+            return null;
+        }
+        JOINED_DURING_SCAN.clear();
+        
+        // Snapshot everything that belongs to the server thread before handing off
+        Path playerDir = server.getWorldPath(LevelResource.PLAYER_DATA_DIR);
+        Path reportFile = server.getServerDirectory().toPath().resolve(REPORT_FILE_NAME);
+        GameProfileCache profileCache = server.getProfileCache();
+        Set<UUID> online = new HashSet<>();
+        for (ServerPlayer player : server.getPlayerList().getPlayers()) {
+            online.add(player.getUUID());
+        }
+        
+        int workers = Math.max(1, Math.min(MAX_WORKERS, Runtime.getRuntime().availableProcessors()));
+        AtomicInteger threadIndex = new AtomicInteger();
+        ExecutorService pool = Executors.newFixedThreadPool(workers, runnable -> {
+            Thread thread = new Thread(runnable, "MagicOrigins Offline Scan #" + threadIndex.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        
+        long start = System.nanoTime();
+        return CompletableFuture.supplyAsync(() -> listPlayerFiles(playerDir), pool)
+            .thenCompose(files -> {
+                AtomicInteger skippedOnline = new AtomicInteger();
+                AtomicInteger failures = new AtomicInteger();
+                List<CompletableFuture<PlayerRecord>> tasks = new ArrayList<>(files.size());
+                for (Path file : files) {
+                    tasks.add(CompletableFuture.supplyAsync(
+                        () -> processFile(file, mode, resetOrigin, online, profileCache, skippedOnline, failures), pool));
+                }
+                
+                return CompletableFuture.allOf(tasks.toArray(new CompletableFuture[0])).thenApply(ignored -> {
+                    List<PlayerRecord> players = tasks.stream()
+                        .map(CompletableFuture::join)
+                        .filter(Objects::nonNull)
+                        .toList();
+                    long elapsedMillis = (System.nanoTime() - start) / 1_000_000L;
+                    Path report = writeReport(reportFile, players);
+                    return new Result(mode, players, skippedOnline.get(), failures.get(), elapsedMillis, report);
+                });
+            })
+            .thenApplyAsync(result -> {
+                updateOriginIndex(server, result);
+                applyToJoinedPlayers(server, mode, resetOrigin);
+                return result;
+            }, server)
+            .whenComplete((result, error) -> {
+                pool.shutdown();
+                RUNNING.set(false);
+                if (result != null) {
+                    MagicOriginsMod.LOGGER.info("Offline {} of {} players finished in {} ms ({} modified, {} online skipped, {} failed)", 
+                        mode, result.players().size(), result.elapsedMillis(), result.getModifiedCount(),
+                        result.skippedOnline(), result.failures());
+                }
+            });
+    }
+    
+    /**
+     * Brings the origin index and the shared origin store in line with the scanned files
+     * Must be called from the server thread; players who logged in during the scan are left to the login pipeline
+     * for the index, while every rewritten file is published so other servers see the change
+     * 
+     * @param server The Minecraft server
+     * @param result The scan result
+     */
+    private static void updateOriginIndex(MinecraftServer server, Result result) {
+        OriginIndexSavedData index = OriginIndexSavedData.get(server);
+        for (PlayerRecord player : result.players()) {
+            if (server.getPlayerList().getPlayer(player.uuid()) == null) {
+                index.update(player.uuid(), player.origin());
+            }
+            if (player.modified()) {
+                SharedOriginStore.publish(player.uuid(), player.origin());
+            }
+        }
+    }
+    
+    /**
+     * Applies the scan's change to players who joined while it ran, whose files the scan did not rewrite
+     * or rewrote after the player's data was loaded
+     * Must be called from the server thread
+     * 
+     * @param server The Minecraft server
+     * @param mode The scan mode
+     * @param resetOrigin For {@link Mode#RESET}, the origin to reset, or null for every origin
+     */
+    private static void applyToJoinedPlayers(MinecraftServer server, Mode mode, Origin resetOrigin) {
+        for (UUID uuid : JOINED_DURING_SCAN) {
+            ServerPlayer player = server.getPlayerList().getPlayer(uuid);
+            if (player == null) {
+                continue;
+            }
+            
+            Origin origin = OriginAssignmentHandler.getPlayerOrigin(player);
+            switch (mode) {
+                case SCAN -> { }
+                case ASSIGN -> {
+                    if (origin == null) {
+                        OriginAssignmentHandler.assignMappedOrigin(player);
+                    }
+                }
+                case RESET -> {
+                    if (origin != null && (resetOrigin == null || origin == resetOrigin)) {
+                        OriginAssignmentHandler.resetPlayerOrigin(player);
+                    }
+                }
+            }
+        }
+        JOINED_DURING_SCAN.clear();
+    }
+    
+    /**
+     * Records players who join while a scan runs so the workers leave their files alone
+     * 
+     * @param event The PlayerLoggedInEvent
+     */
+    @SubscribeEvent
+    public static void onPlayerLogin(PlayerEvent.PlayerLoggedInEvent event) {
+        if (RUNNING.get()) {
+            JOINED_DURING_SCAN.add(event.getEntity().getUUID());
+        }
+    }
+    
+    /**
+     * Checks if a scan is running
+     * 
+     * @return true if a scan is in progress
+     */
+    public static boolean isRunning() {
+        return RUNNING.get();
+    }
+    
+    /**
+     * Lists the player data files in the player data directory
+     * 
+     * @param playerDir The player data directory
+     * @return Player data files named after a UUID
+     */
+    private static List<Path> listPlayerFiles(Path playerDir) {
+        List<Path> files = new ArrayList<>();
+        if (!Files.isDirectory(playerDir)) {
+            return files;
+        }
+        
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(playerDir, "*.dat")) {
+            for (Path file : stream) {
+                if (parseUuid(file) != null) {
+                    files.add(file);
+                }
+            }
+        } catch (IOException e) {
+            throw new IllegalStateException("Failed to list player data: " + e.getMessage(), e);
+        }
+        return files;
+    }
+    
+    /**
+     * Reads one player file, applies the scan mode and builds the player's record
+     * 
+     * @return The player's record, or null if the file was skipped or failed
+     */
+    private static PlayerRecord processFile(Path file, Mode mode, Origin resetOrigin, Set<UUID> online,
+                                            GameProfileCache profileCache, AtomicInteger skippedOnline,
+                                            AtomicInteger failures) {
+        UUID uuid = parseUuid(file);
+        if (online.contains(uuid) || JOINED_DURING_SCAN.contains(uuid)) {
+            skippedOnline.incrementAndGet();
+            return null;
+        }
+        
+        try {
+            CompoundTag root = NbtIo.readCompressed(file.toFile());
+            String name = profileCache.get(uuid).map(GameProfile::getName).orElse(null);
+            
+            CompoundTag forgeData = root.getCompound(FORGE_DATA_KEY);
+            boolean modified = switch (mode) {
+                case SCAN -> false;
+                case ASSIGN -> applyMappedOrigin(forgeData, uuid, name);
+                case RESET -> resetOrigin(forgeData, resetOrigin);
+            };
+            
+            if (modified) {
+                // The player may have joined while the file was read; their logout save would overwrite it
+                if (JOINED_DURING_SCAN.contains(uuid)) {
+                    skippedOnline.incrementAndGet();
+                    return null;
+                }
+                root.put(FORGE_DATA_KEY, forgeData);
+                writeAtomically(file, root);
+            }
+            
+            return buildRecord(uuid, name, root, forgeData, modified);
+        } catch (Exception e) {
+            MagicOriginsMod.LOGGER.error("Failed to process player data {}: {}", file.getFileName(), e.getMessage());
+            failures.incrementAndGet();
+            return null;
+        }
+    }
+    
+    /**
+     * Stores the mapped origin for a player without one, leaving it for the login pipeline to complete
+     * 
+     * @return true if the data was changed
+     */
+    private static boolean applyMappedOrigin(CompoundTag forgeData, UUID uuid, String name) {
+        if (forgeData.contains(OriginAssignmentHandler.ORIGIN_NBT_KEY)) {
+            return false;
+        }
+        
+        Origin origin = PlayerOriginManager.getOriginForPlayer(uuid, name);
+        if (origin == null) {
+            return false;
+        }
+        
+        OriginRegistry.write(forgeData, OriginAssignmentHandler.ORIGIN_NBT_KEY, origin);
+        forgeData.putBoolean(OriginAssignmentHandler.ORIGIN_ASSIGNED_KEY, false);
+        return true;
+    }
+    
+    /**
+     * Removes a stored origin, matching {@link OriginAssignmentHandler#resetPlayerOrigin}
+     * 
+     * @return true if the data was changed
+     */
+    private static boolean resetOrigin(CompoundTag forgeData, Origin resetOrigin) {
+        Origin origin = OriginRegistry.read(forgeData, OriginAssignmentHandler.ORIGIN_NBT_KEY);
+        if (origin == null || (resetOrigin != null && origin != resetOrigin)) {
+            return false;
+        }
+        
+        forgeData.remove(OriginAssignmentHandler.ORIGIN_NBT_KEY);
+        forgeData.putBoolean(OriginAssignmentHandler.ORIGIN_ASSIGNED_KEY, false);
+        return true;
+    }
+    
+    /**
+     * Builds a player's record from the player data store, falling back to the data older versions
+     * kept in the player file
+     */
+    private static PlayerRecord buildRecord(UUID uuid, String name, CompoundTag root, CompoundTag forgeData,
+                                            boolean modified) {
+        Origin origin = OriginRegistry.read(forgeData, OriginAssignmentHandler.ORIGIN_NBT_KEY);
+        boolean originAssigned = forgeData.getBoolean(OriginAssignmentHandler.ORIGIN_ASSIGNED_KEY);
+        
+        CompoundTag caps = root.getCompound(FORGE_CAPS_KEY);
+        String capKey = PlayerModDataProvider.ID.toString();
+        boolean legacy = false;
+        CompoundTag modTag = PlayerDataStore.read(uuid);
+        if (modTag == null && !caps.getCompound(capKey).isEmpty()) {
+            modTag = caps.getCompound(capKey);
+        } else if (modTag == null && forgeData.contains(PlayerDataHandler.MOD_DATA_KEY)) {
+            modTag = forgeData.getCompound(PlayerDataHandler.MOD_DATA_KEY);
+            legacy = true;
+        }
+        
+        PlayerModData data = new PlayerModData();
+        if (modTag != null) {
+            PlayerDataHandler.readModData(data, modTag);
+        }
+        
+        return new PlayerRecord(uuid, name, origin, originAssigned, modTag != null, legacy,
+            data.getPlaytime(), data.getAbilityProgress(), data.getUnlockedAbilities(), modified);
+    }
+    
+    /**
+     * Writes a player file through a temporary file so readers never see a partial file
+     */
+    private static void writeAtomically(Path file, CompoundTag root) throws IOException {
+        Path temp = file.resolveSibling(file.getFileName() + ".magicorigins.tmp");
+        NbtIo.writeCompressed(root, temp.toFile());
+        Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+    
+    /**
+     * Writes the CSV report of a scan
+     * 
+     * @return The report file, or null if it could not be written
+     */
+    private static Path writeReport(Path reportFile, List<PlayerRecord> players) {
+        Path temp = reportFile.resolveSibling(REPORT_FILE_NAME + ".tmp");
+        try (BufferedWriter writer = Files.newBufferedWriter(temp, StandardCharsets.UTF_8)) {
+            writer.write("uuid,name,origin,origin_assigned,has_mod_data,legacy_mod_data,playtime_minutes,ability_progress,unlocked_abilities,modified");
+            writer.newLine();
+            for (PlayerRecord player : players) {
+                writer.write(String.join(",",
+                    player.uuid().toString(),
+                    player.name() != null ? player.name() : "",
+                    player.origin() != null ? player.origin().getName() : "",
+                    Boolean.toString(player.originAssigned()),
+                    Boolean.toString(player.hasModData()),
+                    Boolean.toString(player.legacyModData()),
+                    Long.toString(player.playtime()),
+                    Float.toString(player.abilityProgress()),
+                    Integer.toString(player.unlockedAbilities()),
+                    Boolean.toString(player.modified())));
+                writer.newLine();
+            }
+        } catch (IOException e) {
+            MagicOriginsMod.LOGGER.error("Failed to write offline scan report: {}", e.getMessage());
+            return null;
+        }
+        
+        try {
+            Files.move(temp, reportFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            return reportFile;
+        } catch (IOException e) {
+            MagicOriginsMod.LOGGER.error("Failed to write offline scan report: {}", e.getMessage());
+            return null;
+        }
+    }
+    
+    /**
+     * Counts players per stored origin
+     * 
+     * @param players Player records
+     * @return Player count by origin
+     */
+    public static Map<String, Long> countByOrigin(List<PlayerRecord> players) {
+        Map<String, Long> counts = new TreeMap<>();
+        for (PlayerRecord player : players) {
+            if (player.origin() != null) {
+                counts.merge(player.origin().getName(), 1L, Long::sum);
+            }
+        }
+        return counts;
+    }
+    
+    /**
+     * Parses the UUID from a player data file name
+     * 
+     * @param file The player data file
+     * @return The UUID, or null if the name is not a UUID
+     */
+    private static UUID parseUuid(Path file) {
+        String fileName = file.getFileName().toString();
+        try {
+            return UUID.fromString(fileName.substring(0, fileName.length() - ".dat".length()));
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+}
\ No newline at end of file
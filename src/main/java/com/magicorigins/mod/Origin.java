@@ -0,0 +1,85 @@
+package com.magicorigins.mod;
+
+import net.minecraft.resources.ResourceLocation;
+
+/**
+ * An origin type interned by the {@link OriginRegistry}
+ * There is exactly one instance per origin name, so origins are compared by identity
+ * and their small integer id can index arrays
+ * 
+ * @author MagicOrigins Mod Team
+ * @version 1.0.0
+ */
+public final class Origin {
+    
+    /**
+     * Dense id, unique for the lifetime of the game
+     */
+    private final int id;
+    
+    /**
+     * Origin type identifier (lowercase)
+     */
+    private final String name;
+    
+    /**
+     * Id of the matching origin in the Origins mod
+     */
+    private final ResourceLocation originsId;
+    
+    /**
+     * Whether this is a built-in origin whose id is stable across restarts
+     */
+    private final boolean builtIn;
+    
+    /**
+     * Creates an origin; only called by the {@link OriginRegistry}
+     */
+    Origin(int id, String name, ResourceLocation originsId, boolean builtIn) {
+        this.id = id;
+        this.name = name;
+        this.originsId = originsId;
+        this.builtIn = builtIn;
+    }
+    
+    /**
+     * Gets the dense id of this origin
+     * 
+     * @return Id, from 0 to {@link OriginRegistry#size()} - 1
+     */
+    public int getId() {
+        return id;
+    }
+    
+    /**
+     * Gets the origin type identifier
+     * 
+     * @return Lowercase origin name
+     */
+    public String getName() {
+        return name;
+    }
+    
+    /**
+     * Gets the id of the matching origin in the Origins mod
+     * 
+     * @return Origins mod origin id
+     */
+    public ResourceLocation getOriginsId() {
+        return originsId;
+    }
+    
+    /**
+     * Checks if this is a built-in origin, whose id is stable and may be saved
+     * 
+     * @return true if built in
+     */
+    public boolean isBuiltIn() {
+        return builtIn;
+    }
+    
+    @Override
+    public String toString() {
+        return name;
+    }
+}
\ No newline at end of file
@@ -2,12 +2,13 @@ package com.magicorigins.mod;
 
 import net.minecraft.server.level.ServerPlayer;
 import net.minecraft.nbt.CompoundTag;
+import net.minecraftforge.event.TickEvent;
 import net.minecraftforge.event.entity.player.PlayerEvent;
 import net.minecraftforge.eventbus.api.SubscribeEvent;
 import net.minecraftforge.fml.common.Mod;
 
 /**
- * Handles automatic origin assignment for players on login
+ * Handles automatic origin assignment for players on login (via {@link LoginPipeline})
  * Integrates with Origins mod to automatically assign origins without player choice
  * 
  * @author MagicOrigins Mod Team
@@ -17,119 +18,173 @@ import net.minecraftforge.fml.common.Mod;
 public class OriginAssignmentHandler {
     
     /**
-     * NBT tag key for storing player's assigned origin
+     * NBT tag key for storing player's assigned origin, written by {@link OriginRegistry#write}
      */
-    private static final String ORIGIN_NBT_KEY = "magicorigins:assigned_origin";
+    static final String ORIGIN_NBT_KEY = "magicorigins:assigned_origin";
     
     /**
      * NBT tag key for tracking if origin has been assigned
      */
-    private static final String ORIGIN_ASSIGNED_KEY = "magicorigins:origin_assigned";
+    static final String ORIGIN_ASSIGNED_KEY = "magicorigins:origin_assigned";
     
     /**
-     * Handles player login events to assign origins automatically
-     * This event is called when a player joins the server
+     * Interval in ticks between idle sweeps of the origin cache (one minute)
+     */
+    private static final int CACHE_SWEEP_INTERVAL_TICKS = 1200;
+    
+    /**
+     * Ticks elapsed since the last idle sweep
+     */
+    private static int ticksSinceCacheSweep = 0;
+    
+    /**
+     * Assigns the player's mapped origin if none has been assigned yet
+     * Runs as a deferred step of the {@link LoginPipeline}
      * 
-     * @param event The PlayerLoggedInEvent
+     * @param player The server player
      */
-    @SubscribeEvent
-    public static void onPlayerLogin(PlayerEvent.PlayerLoggedInEvent event) {
-        if (!(event.getEntity() instanceof ServerPlayer serverPlayer)) {
-            return; // Only handle server-side
-        }
-        
-        String username = serverPlayer.getGameProfile().getName();
-        MagicOriginsMod.LOGGER.info("Player {} logged in - checking origin assignment", username);
+    public static void assignMappedOrigin(ServerPlayer player) {
+        String username = player.getGameProfile().getName();
         
         // Check if player has a predefined origin mapping
-        String assignedOrigin = PlayerOriginManager.getOriginForPlayer(username);
+        Origin assignedOrigin = PlayerOriginManager.getOriginForPlayer(player.getUUID(), username);
         if (assignedOrigin == null) {
             MagicOriginsMod.LOGGER.debug("No origin mapping found for player: {}", username);
             return;
         }
         
         // Check if origin has already been assigned
-        CompoundTag playerData = serverPlayer.getPersistentData();
-        if (playerData.getBoolean(ORIGIN_ASSIGNED_KEY)) {
+        if (hasAssignedOrigin(player)) {
             MagicOriginsMod.LOGGER.debug("Origin already assigned for player: {}", username);
             return;
         }
         
         // Assign the origin
-        assignOriginToPlayer(serverPlayer, assignedOrigin);
+        assignOriginToPlayer(player, assignedOrigin);
+    }
+    
+    /**
+     * Handles player logout events to evict the player's cached origin
+     * 
+     * @param event The PlayerLoggedOutEvent
+     */
+    @SubscribeEvent
+    public static void onPlayerLogout(PlayerEvent.PlayerLoggedOutEvent event) {
+        if (!(event.getEntity() instanceof ServerPlayer serverPlayer)) {
+            return;
+        }
+        
+        PlayerOriginManager.evictCachedOrigin(serverPlayer.getUUID());
+    }
+    
+    /**
+     * Periodically evicts idle entries from the origin cache
+     * 
+     * @param event The ServerTickEvent
+     */
+    @SubscribeEvent
+    public static void onServerTick(TickEvent.ServerTickEvent event) {
+        if (event.phase != TickEvent.Phase.END || ++ticksSinceCacheSweep < CACHE_SWEEP_INTERVAL_TICKS) {
+            return;
+        }
+        ticksSinceCacheSweep = 0;
+        
+        int evicted = PlayerOriginManager.evictIdleCachedOrigins();
+        if (evicted > 0) {
+            MagicOriginsMod.LOGGER.debug("Evicted {} idle entries from the origin cache", evicted);
+        }
     }
     
     /**
      * Assigns an origin to a player and integrates with Origins mod
      * 
      * @param player The server player to assign origin to
-     * @param originType The origin type to assign
+     * @param originType The origin to assign
      */
-    private static void assignOriginToPlayer(ServerPlayer player, String originType) {
+    private static void assignOriginToPlayer(ServerPlayer player, Origin originType) {
+        long start = System.nanoTime();
+        ModJfrEvents.OriginAssignment event = ModJfrEvents.beginOriginAssignment();
+        String outcome = "failed";
         try {
-            MagicOriginsMod.LOGGER.info("Assigning origin '{}' to player '{}'", 
+            MagicOriginsMod.LOGGER.debug("Assigning origin '{}' to player '{}'", 
                 originType, player.getGameProfile().getName());
             
             // Store in player persistent data
             CompoundTag playerData = player.getPersistentData();
-            playerData.putString(ORIGIN_NBT_KEY, originType);
+            OriginRegistry.write(playerData, ORIGIN_NBT_KEY, originType);
             playerData.putBoolean(ORIGIN_ASSIGNED_KEY, true);
             
             // Cache the assignment
             PlayerOriginManager.cachePlayerOrigin(player.getUUID(), originType);
+            SharedOriginStore.publish(player.getUUID(), originType);
+            OriginIndexSavedData.get(player.server).update(player.getUUID(), originType);
+            OriginSpatialIndex.update(player);
+            OriginSyncManager.markDirty(player);
+            
+            // Progress is measured against the new origin's unlock rules
+            if (ModFeature.ABILITY_PROGRESSION.isEnabled()) {
+                AbilityProgressionEngine.recompute(player);
+            }
             
-            // Integration with Origins mod would go here
-            // This is where we would call Origins mod API to set the player's origin
+            // Forward the assignment to the Origins mod
             integrateWithOriginsMod(player, originType);
             
             MagicOriginsMod.LOGGER.info("Successfully assigned origin '{}' to player '{}'", 
                 originType, player.getGameProfile().getName());
-                
+            ModMetrics.ASSIGNMENTS.increment();
+            outcome = "assigned";
+        
         } catch (Exception e) {
             MagicOriginsMod.LOGGER.error("Failed to assign origin '{}' to player '{}': {}", 
                 originType, player.getGameProfile().getName(), e.getMessage());
+            ModMetrics.ASSIGNMENT_FAILURES.increment();
+        } finally {
+            ModMetrics.ASSIGNMENT_LATENCY.recordSince(start);
+            ModJfrEvents.finish(event, player.getUUID(), originType, outcome);
         }
     }
     
     /**
      * Integrates with the Origins mod to actually set the player's origin
-     * This method handles the Origins mod API calls
+     * The change is queued and applied together with other changes at the end of the tick
      * 
      * @param player The server player
-     * @param originType The origin type to set
+     * @param originType The origin to set
      */
-    private static void integrateWithOriginsMod(ServerPlayer player, String originType) {
-        try {
-            // Origins mod integration code would go here
-            // This is a placeholder for the actual Origins mod API calls
-            
-            // Example of how this might work (pseudo-code):
-            // OriginComponent originComponent = ModComponents.ORIGIN.get(player);
-            // ResourceLocation originId = new ResourceLocation("origins", originType);
-            // originComponent.setOrigin(originId);
-            // originComponent.sync();
-            
-            MagicOriginsMod.LOGGER.debug("Origins mod integration completed for player '{}' with origin '{}'", 
-                player.getGameProfile().getName(), originType);
-                
-        } catch (Exception e) {
-            MagicOriginsMod.LOGGER.error("Failed to integrate with Origins mod for player '{}': {}", 
-                player.getGameProfile().getName(), e.getMessage());
-        }
+    private static void integrateWithOriginsMod(ServerPlayer player, Origin originType) {
+        OriginsIntegration.queueOrigin(player, originType);
+        
+        MagicOriginsMod.LOGGER.debug("Queued Origins mod update for player '{}' with origin '{}'", 
+            player.getGameProfile().getName(), originType);
     }
     
     /**
      * Gets the assigned origin for a player
+     * An origin saved by name by an older version is migrated to its id
      * 
      * @param player The server player
-     * @return The assigned origin type, or null if none assigned
+     * @return The assigned origin, or null if none assigned
      */
-    public static String getPlayerOrigin(ServerPlayer player) {
-        CompoundTag playerData = player.getPersistentData();
-        if (playerData.contains(ORIGIN_NBT_KEY)) {
-            return playerData.getString(ORIGIN_NBT_KEY);
+    public static Origin getPlayerOrigin(ServerPlayer player) {
+        return OriginRegistry.read(player.getPersistentData(), ORIGIN_NBT_KEY);
+    }
+    
+    /**
+     * Gets the assigned origin for a player, served from the UUID cache when possible
+     * A cache miss reads the player's NBT once and caches the result
+     * 
+     * @param player The server player
+     * @return The assigned origin, or null if none assigned
+     */
+    public static Origin getCachedPlayerOrigin(ServerPlayer player) {
+        Origin origin = PlayerOriginManager.getCachedOrigin(player.getUUID());
+        if (origin == null) {
+            origin = getPlayerOrigin(player);
+            if (origin != null) {
+                PlayerOriginManager.cachePlayerOrigin(player.getUUID(), origin);
+            }
         }
-        return null;
+        return origin;
     }
     
     /**
@@ -153,7 +208,15 @@ public class OriginAssignmentHandler {
         playerData.remove(ORIGIN_NBT_KEY);
         playerData.putBoolean(ORIGIN_ASSIGNED_KEY, false);
         
-        PlayerOriginManager.clearCache();
+        PlayerOriginManager.invalidateCachedOrigin(player.getUUID());
+        SharedOriginStore.publish(player.getUUID(), null);
+        OriginsIntegration.queueReset(player);
+        OriginIndexSavedData.get(player.server).update(player.getUUID(), null);
+        OriginSpatialIndex.update(player);
+        OriginSyncManager.markDirty(player);
+        if (ModFeature.ABILITY_PROGRESSION.isEnabled()) {
+            AbilityProgressionEngine.recompute(player);
+        }
         
         MagicOriginsMod.LOGGER.info("Reset origin assignment for player '{}'", 
             player.getGameProfile().getName());
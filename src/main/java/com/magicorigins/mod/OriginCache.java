@@ -0,0 +1,203 @@
+package com.magicorigins.mod;
+
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Thread-safe, size-bounded cache of player UUID to origin
+ * Entries are evicted when the cache is full, when a player logs out or when they go idle
+ * 
+ * @author MagicOrigins Mod Team
+ * @version 1.0.0
+ */
+public class OriginCache {
+    
+    /**
+     * Backing map from player UUID to cache entry
+     */
+    private final Map<UUID, Entry> entries = new ConcurrentHashMap<>();
+    
+    /**
+     * Maximum number of entries held at once
+     */
+    private final int maxSize;
+    
+    /**
+     * Time without access after which an entry is considered idle, in nanoseconds
+     */
+    private final long idleTimeoutNanos;
+    
+    /**
+     * Lookup and eviction counters
+     */
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    
+    /**
+     * Creates a new origin cache
+     * 
+     * @param maxSize Maximum number of cached players
+     * @param idleTimeout Time without access after which an entry may be evicted
+     * @param unit Unit of the idle timeout
+     */
+    public OriginCache(int maxSize, long idleTimeout, TimeUnit unit) {
+        if (maxSize <= 0) {
+            throw new IllegalArgumentException("maxSize must be positive: " + maxSize);
+        }
+        this.maxSize = maxSize;
+        this.idleTimeoutNanos = unit.toNanos(idleTimeout);
+    }
+    
+    /**
+     * Gets the cached origin for a player and refreshes its access time
+     * 
+     * @param playerUUID The player's UUID
+     * @return The cached origin, or null if not cached
+     */
+    public Origin get(UUID playerUUID) {
+        Entry entry = entries.get(playerUUID);
+        if (entry == null) {
+            misses.increment();
+            return null;
+        }
+        
+        entry.lastAccess = System.nanoTime();
+        hits.increment();
+        return entry.origin;
+    }
+    
+    /**
+     * Caches an origin for a player, evicting the least recently used entry if the cache is full
+     * 
+     * @param playerUUID The player's UUID
+     * @param origin The origin type to cache
+     */
+    public void put(UUID playerUUID, Origin origin) {
+        entries.put(playerUUID, new Entry(origin, System.nanoTime()));
+        
+        while (entries.size() > maxSize) {
+            if (!evictLeastRecentlyUsed()) {
+                break;
+            }
+        }
+    }
+    
+    /**
+     * Removes a single player's entry without counting it as an eviction
+     * Used when the player's origin changes and the cached value is stale
+     * 
+     * @param playerUUID The player's UUID
+     */
+    public void invalidate(UUID playerUUID) {
+        entries.remove(playerUUID);
+    }
+    
+    /**
+     * Evicts a single player's entry, for example when the player logs out
+     * 
+     * @param playerUUID The player's UUID
+     */
+    public void evict(UUID playerUUID) {
+        if (entries.remove(playerUUID) != null) {
+            evictions.increment();
+        }
+    }
+    
+    /**
+     * Evicts all entries that have not been accessed within the idle timeout
+     * 
+     * @return Number of evicted entries
+     */
+    public int evictIdle() {
+        long cutoff = System.nanoTime() - idleTimeoutNanos;
+        int evicted = 0;
+        
+        for (Map.Entry<UUID, Entry> mapEntry : entries.entrySet()) {
+            Entry entry = mapEntry.getValue();
+            if (entry.lastAccess - cutoff < 0 && entries.remove(mapEntry.getKey(), entry)) {
+                evicted++;
+            }
+        }
+        
+        evictions.add(evicted);
+        return evicted;
+    }
+    
+    /**
+     * Removes all entries
+     */
+    public void clear() {
+        entries.clear();
+    }
+    
+    /**
+     * Gets the number of cached entries
+     * 
+     * @return Current cache size
+     */
+    public int size() {
+        return entries.size();
+    }
+    
+    /**
+     * Gets a snapshot of the cache counters
+     * 
+     * @return Current hit, miss and eviction counts
+     */
+    public Stats getStats() {
+        return new Stats(hits.sum(), misses.sum(), evictions.sum(), entries.size());
+    }
+    
+    /**
+     * Evicts the entry with the oldest access time
+     * Only called when the cache overflows, so the linear scan stays off the lookup path
+     * 
+     * @return true if an entry was evicted
+     */
+    private boolean evictLeastRecentlyUsed() {
+        UUID oldestKey = null;
+        Entry oldestEntry = null;
+        
+        for (Map.Entry<UUID, Entry> mapEntry : entries.entrySet()) {
+            Entry entry = mapEntry.getValue();
+            if (oldestEntry == null || entry.lastAccess - oldestEntry.lastAccess < 0) {
+                oldestKey = mapEntry.getKey();
+                oldestEntry = entry;
+            }
+        }
+        
+        if (oldestKey != null && entries.remove(oldestKey, oldestEntry)) {
+            evictions.increment();
+            return true;
+        }
+        return oldestKey != null;
+    }
+    
+    /**
+     * A cached origin together with its last access time
+     */
+    private static final class Entry {
+        private final Origin origin;
+        private volatile long lastAccess;
+        
+        private Entry(Origin origin, long lastAccess) {
+            this.origin = origin;
+            this.lastAccess = lastAccess;
+        }
+    }
+    
+    /**
+     * Snapshot of the cache counters
+     * 
+     * @param hits Number of lookups that found an entry
+     * @param misses Number of lookups that found nothing
+     * @param evictions Number of entries removed by size bound, idle timeout or logout
+     * @param size Number of entries at the time of the snapshot
+     */
+    public record Stats(long hits, long misses, long evictions, int size) {
+    }
+}
\ No newline at end of file
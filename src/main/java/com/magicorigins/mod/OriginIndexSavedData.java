@@ -0,0 +1,161 @@
+package com.magicorigins.mod;
+
+import net.minecraft.nbt.CompoundTag;
+import net.minecraft.nbt.LongArrayTag;
+import net.minecraft.server.MinecraftServer;
+import net.minecraft.world.level.saveddata.SavedData;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * World-level reverse index from origin to the players who have it, online or offline
+ * Stored in the overworld's data folder; each origin's players are saved under the origin's name
+ * as one long array of UUID most/least significant bit pairs
+ * 
+ * Must only be used from the server thread
+ * 
+ * @author MagicOrigins Mod Team
+ * @version 1.0.0
+ */
+public class OriginIndexSavedData extends SavedData {
+    
+    /**
+     * Name of the data file in the world's data folder
+     */
+    public static final String DATA_NAME = "magicorigins_origin_index";
+    
+    /**
+     * Players by origin
+     */
+    private final Map<Origin, Set<UUID>> playersByOrigin = new HashMap<>();
+    
+    /**
+     * Origin by player, used to move a player between origins in O(1)
+     */
+    private final Map<UUID, Origin> originByPlayer = new HashMap<>();
+    
+    /**
+     * Gets the index for a server, loading or creating it on first use
+     * 
+     * @param server The Minecraft server
+     * @return The server's origin index
+     */
+    public static OriginIndexSavedData get(MinecraftServer server) {
+        return server.overworld().getDataStorage()
+            .computeIfAbsent(OriginIndexSavedData::load, OriginIndexSavedData::new, DATA_NAME);
+    }
+    
+    /**
+     * Records a player's origin, replacing any previous entry
+     * 
+     * @param uuid The player's UUID
+     * @param origin The player's origin, or null to remove the player
+     */
+    public void update(UUID uuid, Origin origin) {
+        Origin previous = origin != null ? originByPlayer.put(uuid, origin) : originByPlayer.remove(uuid);
+        if (origin != null && origin == previous) {
+            return;
+        }
+        
+        if (previous != null) {
+            Set<UUID> players = playersByOrigin.get(previous);
+            if (players != null && players.remove(uuid) && players.isEmpty()) {
+                playersByOrigin.remove(previous);
+            }
+        }
+        if (origin != null) {
+            playersByOrigin.computeIfAbsent(origin, key -> new HashSet<>()).add(uuid);
+        }
+        
+        if (previous != null || origin != null) {
+            setDirty();
+        }
+    }
+    
+    /**
+     * Gets the players with an origin
+     * 
+     * @param origin The origin
+     * @return Unmodifiable view of the players' UUIDs, empty if none
+     */
+    public Set<UUID> getPlayers(Origin origin) {
+        Set<UUID> players = playersByOrigin.get(origin);
+        return players != null ? Collections.unmodifiableSet(players) : Collections.emptySet();
+    }
+    
+    /**
+     * Gets a player's indexed origin
+     * 
+     * @param uuid The player's UUID
+     * @return The origin, or null if the player is not indexed
+     */
+    public Origin getOrigin(UUID uuid) {
+        return originByPlayer.get(uuid);
+    }
+    
+    /**
+     * Gets the number of players per origin
+     * 
+     * @return Player count by origin
+     */
+    public Map<Origin, Integer> getCounts() {
+        Map<Origin, Integer> counts = new HashMap<>();
+        playersByOrigin.forEach((origin, players) -> counts.put(origin, players.size()));
+        return counts;
+    }
+    
+    /**
+     * Gets the number of indexed players
+     * 
+     * @return Number of players with an indexed origin
+     */
+    public int size() {
+        return originByPlayer.size();
+    }
+    
+    /**
+     * Loads the index from its saved form
+     * 
+     * @param tag The saved tag
+     * @return The loaded index
+     */
+    public static OriginIndexSavedData load(CompoundTag tag) {
+        OriginIndexSavedData index = new OriginIndexSavedData();
+        for (String name : tag.getAllKeys()) {
+            Origin origin;
+            try {
+                origin = OriginRegistry.intern(name);
+            } catch (IllegalArgumentException e) {
+                MagicOriginsMod.LOGGER.warn("Dropping invalid origin '{}' from the origin index", name);
+                continue;
+            }
+            
+            long[] uuids = tag.getLongArray(name);
+            for (int i = 0; i + 1 < uuids.length; i += 2) {
+                UUID uuid = new UUID(uuids[i], uuids[i + 1]);
+                index.originByPlayer.put(uuid, origin);
+                index.playersByOrigin.computeIfAbsent(origin, key -> new HashSet<>()).add(uuid);
+            }
+        }
+        return index;
+    }
+    
+    @Override
+    public CompoundTag save(CompoundTag tag) {
+        playersByOrigin.forEach((origin, players) -> {
+            long[] uuids = new long[players.size() * 2];
+            int i = 0;
+            for (UUID uuid : players) {
+                uuids[i++] = uuid.getMostSignificantBits();
+                uuids[i++] = uuid.getLeastSignificantBits();
+            }
+            tag.put(origin.getName(), new LongArrayTag(uuids));
+        });
+        return tag;
+    }
+}
\ No newline at end of file
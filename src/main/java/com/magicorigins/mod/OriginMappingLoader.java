@@ -0,0 +1,260 @@
+package com.magicorigins.mod;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import net.minecraftforge.fml.loading.FMLPaths;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Loads player-to-origin mappings from the external mapping file
+ * The file lives in the config directory so the roster can change without a rebuild.
+ * Usernames are resolved to UUIDs from an optional {@code uuid} column and the server's {@code usercache.json}
+ * 
+ * @author MagicOrigins Mod Team
+ * @version 1.0.0
+ */
+public class OriginMappingLoader {
+    
+    /**
+     * File name of the mapping file inside the config directory
+     */
+    public static final String MAPPING_FILE_NAME = "magicorigins-origins.json";
+    
+    /**
+     * File name of the server's username cache inside the game directory
+     */
+    public static final String USER_CACHE_FILE_NAME = "usercache.json";
+    
+    /**
+     * Gson instance used to write the default mapping file
+     */
+    private static final Gson GSON = new GsonBuilder().setPrettyPrinting().create();
+    
+    /**
+     * Default mappings written when no mapping file exists yet (from UserAbilities.txt)
+     */
+    private static final Map<String, String> DEFAULT_MAPPINGS = new LinkedHashMap<>();
+    
+    static {
+        DEFAULT_MAPPINGS.put("Fishy01003", "water");
+        DEFAULT_MAPPINGS.put("52bm", "nature");
+        DEFAULT_MAPPINGS.put("Green_boii", "swamp");
+        DEFAULT_MAPPINGS.put("Balo01003", "stone");
+        DEFAULT_MAPPINGS.put("Temsync", "echo");
+        DEFAULT_MAPPINGS.put("Polocol", "fire");
+        DEFAULT_MAPPINGS.put("Snowfester", "frost");
+        DEFAULT_MAPPINGS.put("Fkoe", "amphibian");
+        DEFAULT_MAPPINGS.put("_Kitax", "shadow");
+    }
+    
+    /**
+     * Gets the path of the mapping file in the config directory
+     * 
+     * @return Path to the mapping file
+     */
+    public static Path getMappingFile() {
+        return FMLPaths.CONFIGDIR.get().resolve(MAPPING_FILE_NAME);
+    }
+    
+    /**
+     * Gets the path of the server's username cache
+     * 
+     * @return Path to usercache.json
+     */
+    public static Path getUserCacheFile() {
+        return FMLPaths.GAMEDIR.get().resolve(USER_CACHE_FILE_NAME);
+    }
+    
+    /**
+     * Loads the mapping file and resolves its usernames to UUIDs
+     * Writes the default mappings first if the file does not exist yet; origin names are interned
+     * in the {@link OriginRegistry}. A UUID given in the mapping file takes precedence over the user cache
+     * 
+     * @param file The mapping file to read
+     * @param userCache The server's usercache.json; a missing or unreadable cache resolves nothing
+     * @return The loaded mappings
+     * @throws IOException If the mapping file cannot be read or is not valid JSON
+     */
+    public static OriginMappings load(Path file, Path userCache) throws IOException {
+        if (!Files.exists(file)) {
+            writeDefaults(file);
+        }
+        
+        JsonElement root;
+        try (Reader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            root = JsonParser.parseReader(reader);
+        } catch (RuntimeException e) {
+            throw new IOException("Invalid JSON in " + file + ": " + e.getMessage(), e);
+        }
+        
+        JsonElement mappingsElement = root.isJsonObject() ? root.getAsJsonObject().get("mappings") : null;
+        if (mappingsElement == null || !mappingsElement.isJsonArray()) {
+            throw new IOException("Mapping file " + file + " has no 'mappings' array");
+        }
+        
+        JsonArray entries = mappingsElement.getAsJsonArray();
+        Map<String, Origin> mappings = new HashMap<>(entries.size() * 2);
+        Map<String, UUID> uuids = readUserCache(userCache);
+        
+        for (JsonElement element : entries) {
+            if (!element.isJsonObject()) {
+                MagicOriginsMod.LOGGER.warn("Skipping malformed mapping entry: {}", element);
+                continue;
+            }
+            
+            JsonObject entry = element.getAsJsonObject();
+            String username = getString(entry, "username");
+            String originName = getString(entry, "origin");
+            if (username == null || originName == null) {
+                MagicOriginsMod.LOGGER.warn("Skipping mapping entry without username or origin: {}", entry);
+                continue;
+            }
+            
+            Origin origin;
+            try {
+                origin = OriginRegistry.intern(originName);
+            } catch (IllegalArgumentException e) {
+                MagicOriginsMod.LOGGER.warn("Skipping mapping entry with invalid origin: {}", entry);
+                continue;
+            }
+            
+            if (entry.has("uuid")) {
+                UUID uuid = parseUuid(getString(entry, "uuid"));
+                if (uuid != null) {
+                    uuids.put(username.toLowerCase(Locale.ROOT), uuid);
+                } else {
+                    MagicOriginsMod.LOGGER.warn("Ignoring invalid UUID in mapping entry: {}", entry);
+                }
+            }
+            
+            Origin previous = mappings.put(username, origin);
+            if (previous != null) {
+                MagicOriginsMod.LOGGER.warn("Duplicate mapping for {}: '{}' replaced by '{}'", 
+                    username, previous, origin);
+            }
+        }
+        
+        OriginMappings resolved = OriginMappings.resolve(mappings, uuids);
+        if (resolved.resolvedCount() < resolved.size()) {
+            MagicOriginsMod.LOGGER.info("{} of {} mapped usernames have no known UUID yet and are matched by name", 
+                resolved.size() - resolved.resolvedCount(), resolved.size());
+        }
+        return resolved;
+    }
+    
+    /**
+     * Gets a string member of a mapping entry
+     * 
+     * @param entry The mapping entry
+     * @param key The member name
+     * @return The member as a string, or null if it is missing or not a primitive
+     */
+    private static String getString(JsonObject entry, String key) {
+        JsonElement element = entry.get(key);
+        return element != null && element.isJsonPrimitive() ? element.getAsString() : null;
+    }
+    
+    /**
+     * Parses a UUID column value
+     * The nil UUID is rejected because {@link UuidOriginMap} cannot store it
+     * 
+     * @param value The value, or null
+     * @return The UUID, or null if the value is missing, not a UUID or the nil UUID
+     */
+    private static UUID parseUuid(String value) {
+        if (value == null) {
+            return null;
+        }
+        
+        try {
+            UUID uuid = UUID.fromString(value);
+            return uuid.getMostSignificantBits() != 0L || uuid.getLeastSignificantBits() != 0L ? uuid : null;
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+    
+    /**
+     * Reads the server's username cache into a map of lowercase username to UUID
+     * 
+     * @param file The usercache.json file
+     * @return Mutable map of known UUIDs, empty if the cache is missing or unreadable
+     */
+    static Map<String, UUID> readUserCache(Path file) {
+        Map<String, UUID> uuids = new HashMap<>();
+        if (!Files.exists(file)) {
+            return uuids;
+        }
+        
+        try (Reader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            JsonElement root = JsonParser.parseReader(reader);
+            if (!root.isJsonArray()) {
+                MagicOriginsMod.LOGGER.warn("Ignoring user cache {}: not a JSON array", file);
+                return uuids;
+            }
+            
+            for (JsonElement element : root.getAsJsonArray()) {
+                if (!element.isJsonObject()) {
+                    continue;
+                }
+                
+                JsonObject entry = element.getAsJsonObject();
+                if (!entry.has("name") || !entry.has("uuid")) {
+                    continue;
+                }
+                
+                UUID uuid = parseUuid(entry.get("uuid").getAsString());
+                if (uuid != null) {
+                    uuids.put(entry.get("name").getAsString().toLowerCase(Locale.ROOT), uuid);
+                } else {
+                    MagicOriginsMod.LOGGER.debug("Skipping user cache entry with invalid UUID: {}", entry);
+                }
+            }
+        } catch (IOException | RuntimeException e) {
+            MagicOriginsMod.LOGGER.warn("Failed to read user cache {}: {}", file, e.getMessage());
+        }
+        
+        return uuids;
+    }
+    
+    /**
+     * Writes the default mappings to the mapping file
+     * 
+     * @param file The mapping file to create
+     * @throws IOException If the file cannot be written
+     */
+    private static void writeDefaults(Path file) throws IOException {
+        JsonArray entries = new JsonArray();
+        DEFAULT_MAPPINGS.forEach((username, origin) -> {
+            JsonObject entry = new JsonObject();
+            entry.addProperty("username", username);
+            entry.addProperty("origin", origin);
+            entries.add(entry);
+        });
+        
+        JsonObject root = new JsonObject();
+        root.add("mappings", entries);
+        
+        Files.createDirectories(file.getParent());
+        try (Writer writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+            GSON.toJson(root, writer);
+        }
+        
+        MagicOriginsMod.LOGGER.info("Wrote default origin mappings to {}", file);
+    }
+}
\ No newline at end of file
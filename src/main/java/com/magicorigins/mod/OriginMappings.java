@@ -0,0 +1,125 @@
+package com.magicorigins.mod;
+
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Immutable snapshot of the configured player-to-origin mappings
+ * Usernames resolved to a UUID are looked up in a {@link UuidOriginMap}, so players keep their
+ * mapping after a rename; usernames that could not be resolved yet fall back to a lookup by name
+ * 
+ * @author MagicOrigins Mod Team
+ * @version 1.0.0
+ */
+public final class OriginMappings {
+    
+    /**
+     * Mappings without any entries
+     */
+    public static final OriginMappings EMPTY = new OriginMappings(Map.of(), UuidOriginMap.EMPTY, Map.of());
+    
+    /**
+     * All configured mappings by username as written in the mapping file
+     */
+    private final Map<String, Origin> byUsername;
+    
+    /**
+     * Mappings of resolved usernames by UUID
+     */
+    private final UuidOriginMap byUuid;
+    
+    /**
+     * Mappings of usernames without a known UUID
+     */
+    private final Map<String, Origin> unresolved;
+    
+    private OriginMappings(Map<String, Origin> byUsername, UuidOriginMap byUuid, Map<String, Origin> unresolved) {
+        this.byUsername = byUsername;
+        this.byUuid = byUuid;
+        this.unresolved = unresolved;
+    }
+    
+    /**
+     * Builds mappings, resolving each username to a UUID where one is known
+     * 
+     * @param byUsername Username to origin mappings
+     * @param uuids Known UUIDs by lowercase username
+     * @return The mappings
+     */
+    public static OriginMappings resolve(Map<String, Origin> byUsername, Map<String, UUID> uuids) {
+        UuidOriginMap byUuid = new UuidOriginMap(byUsername.size());
+        Map<String, Origin> unresolved = new HashMap<>();
+        
+        byUsername.forEach((username, origin) -> {
+            UUID uuid = uuids.get(username.toLowerCase(Locale.ROOT));
+            if (uuid == null) {
+                unresolved.put(username, origin);
+                return;
+            }
+            
+            Origin previous = byUuid.put(uuid, origin);
+            if (previous != null && previous != origin) {
+                MagicOriginsMod.LOGGER.warn("Conflicting mappings for UUID {}: '{}' replaced by '{}' ({})", 
+                    uuid, previous, origin, username);
+            }
+        });
+        
+        return new OriginMappings(Map.copyOf(byUsername), byUuid, Map.copyOf(unresolved));
+    }
+    
+    /**
+     * Gets the origin for a player, by UUID first and by username if the UUID is not mapped
+     * Does not allocate
+     * 
+     * @param uuid The player's UUID
+     * @param username The player's current username, or null if unknown
+     * @return The mapped origin, or null if no mapping exists
+     */
+    public Origin get(UUID uuid, String username) {
+        Origin origin = byUuid.get(uuid);
+        if (origin == null && username != null && !unresolved.isEmpty()) {
+            origin = unresolved.get(username);
+        }
+        return origin;
+    }
+    
+    /**
+     * Gets the origin configured for a username, regardless of whether it was resolved
+     * 
+     * @param username The username as written in the mapping file
+     * @return The mapped origin, or null if no mapping exists
+     */
+    public Origin getByUsername(String username) {
+        return byUsername.get(username);
+    }
+    
+    /**
+     * Gets all configured usernames
+     * 
+     * @return Unmodifiable set of usernames
+     */
+    public Set<String> usernames() {
+        return byUsername.keySet();
+    }
+    
+    /**
+     * Gets the number of configured mappings
+     * 
+     * @return Number of mappings
+     */
+    public int size() {
+        return byUsername.size();
+    }
+    
+    /**
+     * Gets the number of mappings resolved to a UUID
+     * 
+     * @return Number of UUID mappings
+     */
+    public int resolvedCount() {
+        return byUuid.size();
+    }
+}
\ No newline at end of file
@@ -0,0 +1,184 @@
+package com.magicorigins.mod;
+
+import net.minecraft.nbt.CompoundTag;
+import net.minecraft.nbt.Tag;
+import net.minecraft.resources.ResourceLocation;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Interns origin names into {@link Origin} instances with dense integer ids
+ * The built-in origins have fixed ids and are saved to NBT as that id; origins that only appear
+ * in the mapping file get the next free id at runtime and are saved by name.
+ * Lookups are thread-safe and lock-free; interning a new name is synchronized
+ * 
+ * @author MagicOrigins Mod Team
+ * @version 1.0.0
+ */
+public final class OriginRegistry {
+    
+    /**
+     * Namespace of origin ids in the Origins mod
+     */
+    public static final String ORIGINS_NAMESPACE = "origins";
+    
+    /**
+     * Origins by name
+     */
+    private static final Map<String, Origin> BY_NAME = new ConcurrentHashMap<>();
+    
+    /**
+     * Origins by id, replaced as a whole when an origin is added
+     */
+    private static volatile Origin[] byId = new Origin[0];
+    
+    /**
+     * Built-in origins; their ids are saved in player data and must never change
+     */
+    public static final Origin WATER = builtIn(0, "water");
+    public static final Origin NATURE = builtIn(1, "nature");
+    public static final Origin SWAMP = builtIn(2, "swamp");
+    public static final Origin STONE = builtIn(3, "stone");
+    public static final Origin ECHO = builtIn(4, "echo");
+    public static final Origin FIRE = builtIn(5, "fire");
+    public static final Origin FROST = builtIn(6, "frost");
+    public static final Origin AMPHIBIAN = builtIn(7, "amphibian");
+    public static final Origin SHADOW = builtIn(8, "shadow");
+    
+    /**
+     * Number of built-in origins; saved ids at or above this value are invalid
+     */
+    public static final int BUILT_IN_COUNT = byId.length;
+    
+    private OriginRegistry() {
+    }
+    
+    /**
+     * Gets an already interned origin by name
+     * 
+     * @param name The origin type identifier (case-insensitive)
+     * @return The origin, or null if no origin with this name exists
+     */
+    public static Origin get(String name) {
+        Origin origin = BY_NAME.get(name);
+        return origin != null ? origin : BY_NAME.get(name.toLowerCase(Locale.ROOT));
+    }
+    
+    /**
+     * Gets an origin by id
+     * 
+     * @param id The origin id
+     * @return The origin, or null if the id is not assigned
+     */
+    public static Origin byId(int id) {
+        Origin[] origins = byId;
+        return id >= 0 && id < origins.length ? origins[id] : null;
+    }
+    
+    /**
+     * Gets the origin with a name, adding it with the next free id if it is new
+     * 
+     * @param name The origin type identifier (case-insensitive)
+     * @return The interned origin
+     * @throws IllegalArgumentException If the name is not a valid Origins mod origin path
+     */
+    public static Origin intern(String name) {
+        Origin origin = get(name);
+        return origin != null ? origin : add(name.toLowerCase(Locale.ROOT), false);
+    }
+    
+    /**
+     * Gets the number of interned origins
+     * 
+     * @return Number of origins, which is also the exclusive upper bound of their ids
+     */
+    public static int size() {
+        return byId.length;
+    }
+    
+    /**
+     * Gets all interned origins in id order
+     * 
+     * @return Unmodifiable list of origins
+     */
+    public static List<Origin> values() {
+        return List.of(byId);
+    }
+    
+    /**
+     * Reads an origin saved with {@link #write}, also accepting the origin names saved by older versions
+     * A built-in origin saved by name is rewritten in place as its id
+     * 
+     * @param tag The tag holding the origin
+     * @param key The key of the origin
+     * @return The origin, or null if the key is absent or its value is invalid
+     */
+    public static Origin read(CompoundTag tag, String key) {
+        if (tag.contains(key, Tag.TAG_INT)) {
+            int id = tag.getInt(key);
+            return id < BUILT_IN_COUNT ? byId(id) : null;
+        }
+        if (!tag.contains(key, Tag.TAG_STRING)) {
+            return null;
+        }
+        
+        Origin origin;
+        try {
+            origin = intern(tag.getString(key));
+        } catch (IllegalArgumentException e) {
+            MagicOriginsMod.LOGGER.warn("Ignoring invalid saved origin '{}'", tag.getString(key));
+            return null;
+        }
+        if (origin.isBuiltIn()) {
+            tag.putInt(key, origin.getId());
+        }
+        return origin;
+    }
+    
+    /**
+     * Saves an origin, as its id for built-in origins and by name otherwise
+     * 
+     * @param tag The tag to write to
+     * @param key The key of the origin
+     * @param origin The origin to save
+     */
+    public static void write(CompoundTag tag, String key, Origin origin) {
+        if (origin.isBuiltIn()) {
+            tag.putInt(key, origin.getId());
+        } else {
+            tag.putString(key, origin.getName());
+        }
+    }
+    
+    private static Origin builtIn(int id, String name) {
+        Origin origin = add(name, true);
+        if (origin.getId() != id) {
+            throw new IllegalStateException("Built-in origin " + name + " registered out of order");
+        }
+        return origin;
+    }
+    
+    private static synchronized Origin add(String name, boolean builtIn) {
+        Origin existing = BY_NAME.get(name);
+        if (existing != null) {
+            return existing;
+        }
+        
+        ResourceLocation originsId = ResourceLocation.tryBuild(ORIGINS_NAMESPACE, name);
+        if (originsId == null) {
+            throw new IllegalArgumentException("Invalid origin name: " + name);
+        }
+        
+        Origin[] origins = byId;
+        Origin origin = new Origin(origins.length, name, originsId, builtIn);
+        Origin[] grown = Arrays.copyOf(origins, origins.length + 1);
+        grown[origin.getId()] = origin;
+        byId = grown;
+        BY_NAME.put(name, origin);
+        return origin;
+    }
+}
\ No newline at end of file
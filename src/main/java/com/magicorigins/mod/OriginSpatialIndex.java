@@ -0,0 +1,253 @@
+package com.magicorigins.mod;
+
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import net.minecraft.core.SectionPos;
+import net.minecraft.resources.ResourceKey;
+import net.minecraft.server.level.ServerPlayer;
+import net.minecraft.util.Mth;
+import net.minecraft.world.level.Level;
+import net.minecraft.world.phys.Vec3;
+import net.minecraftforge.event.entity.EntityEvent;
+import net.minecraftforge.event.entity.player.PlayerEvent;
+import net.minecraftforge.event.server.ServerStoppedEvent;
+import net.minecraftforge.eventbus.api.EventPriority;
+import net.minecraftforge.eventbus.api.SubscribeEvent;
+import net.minecraftforge.fml.common.Mod;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * In-memory index of online players by dimension, origin and chunk section
+ * Answers "players of origin X within radius R" by visiting only the sections around the query point,
+ * so area effects scale with local player density instead of server population.
+ * Must only be used from the server thread
+ * 
+ * @author MagicOrigins Mod Team
+ * @version 1.0.0
+ */
+@Mod.EventBusSubscriber(modid = MagicOriginsMod.MOD_ID)
+public class OriginSpatialIndex {
+    
+    /**
+     * Players by dimension, then origin id, then packed section position
+     * The per-dimension list is indexed by origin id and holds null for origins without players
+     */
+    private static final Map<ResourceKey<Level>, List<Long2ObjectOpenHashMap<List<ServerPlayer>>>> INDEX = new HashMap<>();
+    
+    /**
+     * Where each indexed player is currently filed
+     */
+    private static final Map<UUID, Entry> ENTRIES = new HashMap<>();
+    
+    /**
+     * A player's current position in the index
+     */
+    private record Entry(ServerPlayer player, ResourceKey<Level> dimension, Origin origin, long section) {
+    }
+    
+    /**
+     * Adds or moves a player in the index using the player's current dimension, origin and position
+     * Players without an origin are removed
+     * 
+     * @param player The server player
+     */
+    public static void update(ServerPlayer player) {
+        Origin origin = OriginAssignmentHandler.getCachedPlayerOrigin(player);
+        place(player, origin, SectionPos.asLong(player.blockPosition()));
+    }
+    
+    /**
+     * Removes a player from the index
+     * 
+     * @param uuid The player's UUID
+     */
+    public static void remove(UUID uuid) {
+        Entry entry = ENTRIES.remove(uuid);
+        if (entry != null) {
+            unfile(entry);
+        }
+    }
+    
+    /**
+     * Collects the online players of an origin within a radius of a point
+     * 
+     * @param dimension Dimension to search
+     * @param origin The origin
+     * @param center Query point
+     * @param radius Search radius in blocks
+     * @return Matching players, in no particular order
+     */
+    public static List<ServerPlayer> getPlayersWithin(ResourceKey<Level> dimension, Origin origin, Vec3 center, double radius) {
+        List<ServerPlayer> result = new ArrayList<>();
+        Long2ObjectOpenHashMap<List<ServerPlayer>> sections = getSections(INDEX.get(dimension), origin);
+        if (sections == null) {
+            return result;
+        }
+        
+        double radiusSq = radius * radius;
+        int minX = SectionPos.blockToSectionCoord(Mth.floor(center.x - radius));
+        int minY = SectionPos.blockToSectionCoord(Mth.floor(center.y - radius));
+        int minZ = SectionPos.blockToSectionCoord(Mth.floor(center.z - radius));
+        int maxX = SectionPos.blockToSectionCoord(Mth.floor(center.x + radius));
+        int maxY = SectionPos.blockToSectionCoord(Mth.floor(center.y + radius));
+        int maxZ = SectionPos.blockToSectionCoord(Mth.floor(center.z + radius));
+        long boxSections = (long) (maxX - minX + 1) * (maxY - minY + 1) * (maxZ - minZ + 1);
+        
+        if (boxSections > sections.size()) {
+            // Fewer occupied sections than sections in the box: walk the occupied ones
+            for (Long2ObjectMap.Entry<List<ServerPlayer>> section : sections.long2ObjectEntrySet()) {
+                long pos = section.getLongKey();
+                int x = SectionPos.x(pos);
+                int y = SectionPos.y(pos);
+                int z = SectionPos.z(pos);
+                if (x >= minX && x <= maxX && y >= minY && y <= maxY && z >= minZ && z <= maxZ) {
+                    collect(section.getValue(), center, radiusSq, result);
+                }
+            }
+        } else {
+            for (int x = minX; x <= maxX; x++) {
+                for (int z = minZ; z <= maxZ; z++) {
+                    for (int y = minY; y <= maxY; y++) {
+                        List<ServerPlayer> players = sections.get(SectionPos.asLong(x, y, z));
+                        if (players != null) {
+                            collect(players, center, radiusSq, result);
+                        }
+                    }
+                }
+            }
+        }
+        return result;
+    }
+    
+    /**
+     * Gets the number of indexed players
+     * 
+     * @return Number of online players with an origin
+     */
+    public static int size() {
+        return ENTRIES.size();
+    }
+    
+    /**
+     * Moves players into their new section when they cross a section border
+     * 
+     * @param event The EnteringSection event
+     */
+    @SubscribeEvent
+    public static void onEnteringSection(EntityEvent.EnteringSection event) {
+        if (event.getEntity() instanceof ServerPlayer player && ENTRIES.containsKey(player.getUUID())) {
+            place(player, ENTRIES.get(player.getUUID()).origin(), event.getNewPos().asLong());
+        }
+    }
+    
+    /**
+     * Refiles players who changed dimension
+     * 
+     * @param event The PlayerChangedDimensionEvent
+     */
+    @SubscribeEvent
+    public static void onPlayerChangedDimension(PlayerEvent.PlayerChangedDimensionEvent event) {
+        if (event.getEntity() instanceof ServerPlayer player) {
+            update(player);
+        }
+    }
+    
+    /**
+     * Refiles players after respawn, which replaces the player entity
+     * 
+     * @param event The PlayerRespawnEvent
+     */
+    @SubscribeEvent
+    public static void onPlayerRespawn(PlayerEvent.PlayerRespawnEvent event) {
+        if (event.getEntity() instanceof ServerPlayer player) {
+            update(player);
+        }
+    }
+    
+    /**
+     * Removes players from the index on logout
+     * Runs after the other logout handlers, which may still query the index
+     * 
+     * @param event The PlayerLoggedOutEvent
+     */
+    @SubscribeEvent(priority = EventPriority.LOWEST)
+    public static void onPlayerLogout(PlayerEvent.PlayerLoggedOutEvent event) {
+        remove(event.getEntity().getUUID());
+    }
+    
+    /**
+     * Clears the index once the server has stopped
+     * 
+     * @param event The ServerStoppedEvent
+     */
+    @SubscribeEvent
+    public static void onServerStopped(ServerStoppedEvent event) {
+        INDEX.clear();
+        ENTRIES.clear();
+    }
+    
+    private static void place(ServerPlayer player, Origin origin, long section) {
+        ResourceKey<Level> dimension = player.level().dimension();
+        Entry previous = ENTRIES.get(player.getUUID());
+        if (previous != null) {
+            if (previous.player() == player && previous.dimension() == dimension
+                && previous.section() == section && previous.origin() == origin) {
+                return;
+            }
+            unfile(previous);
+        }
+        
+        if (origin == null) {
+            ENTRIES.remove(player.getUUID());
+            return;
+        }
+        
+        Entry entry = new Entry(player, dimension, origin, section);
+        ENTRIES.put(player.getUUID(), entry);
+        List<Long2ObjectOpenHashMap<List<ServerPlayer>>> byOrigin = INDEX.computeIfAbsent(dimension, key -> new ArrayList<>());
+        while (byOrigin.size() <= origin.getId()) {
+            byOrigin.add(null);
+        }
+        Long2ObjectOpenHashMap<List<ServerPlayer>> sections = byOrigin.get(origin.getId());
+        if (sections == null) {
+            sections = new Long2ObjectOpenHashMap<>();
+            byOrigin.set(origin.getId(), sections);
+        }
+        sections.computeIfAbsent(section, key -> new ArrayList<>(2)).add(player);
+    }
+    
+    private static void unfile(Entry entry) {
+        List<Long2ObjectOpenHashMap<List<ServerPlayer>>> byOrigin = INDEX.get(entry.dimension());
+        Long2ObjectOpenHashMap<List<ServerPlayer>> sections = getSections(byOrigin, entry.origin());
+        List<ServerPlayer> players = sections != null ? sections.get(entry.section()) : null;
+        if (players == null) {
+            return;
+        }
+        
+        players.remove(entry.player());
+        if (players.isEmpty()) {
+            sections.remove(entry.section());
+            if (sections.isEmpty()) {
+                byOrigin.set(entry.origin().getId(), null);
+            }
+        }
+    }
+    
+    private static Long2ObjectOpenHashMap<List<ServerPlayer>> getSections(
+            List<Long2ObjectOpenHashMap<List<ServerPlayer>>> byOrigin, Origin origin) {
+        return byOrigin != null && origin.getId() < byOrigin.size() ? byOrigin.get(origin.getId()) : null;
+    }
+    
+    private static void collect(List<ServerPlayer> players, Vec3 center, double radiusSq, List<ServerPlayer> result) {
+        for (ServerPlayer player : players) {
+            if (player.distanceToSqr(center) <= radiusSq) {
+                result.add(player);
+            }
+        }
+    }
+}
\ No newline at end of file
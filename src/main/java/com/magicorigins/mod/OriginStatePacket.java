@@ -0,0 +1,170 @@
+package com.magicorigins.mod;
+
+import net.minecraft.network.FriendlyByteBuf;
+import net.minecraftforge.api.distmarker.Dist;
+import net.minecraftforge.fml.DistExecutor;
+import net.minecraftforge.network.NetworkEvent;
+
+import java.util.function.Supplier;
+
+/**
+ * Server-to-client update of a player's origin and progression state
+ * Only the fields flagged in the mask are written, so a typical update is a few bytes
+ * 
+ * @author MagicOrigins Mod Team
+ * @version 1.0.0
+ */
+public class OriginStatePacket {
+    
+    /**
+     * Flag for the origin field
+     */
+    public static final int ORIGIN = 1;
+    
+    /**
+     * Flag for the playtime field
+     */
+    public static final int PLAYTIME = 1 << 1;
+    
+    /**
+     * Flag for the ability progress field
+     */
+    public static final int ABILITY_PROGRESS = 1 << 2;
+    
+    /**
+     * Flag for the unlocked abilities field
+     */
+    public static final int UNLOCKED_ABILITIES = 1 << 3;
+    
+    /**
+     * All fields, sent as a full snapshot
+     */
+    public static final int ALL = ORIGIN | PLAYTIME | ABILITY_PROGRESS | UNLOCKED_ABILITIES;
+    
+    private final int entityId;
+    private final int mask;
+    private final String origin;
+    private final long playtime;
+    private final float abilityProgress;
+    private final int unlockedAbilities;
+    
+    /**
+     * Creates a packet
+     * 
+     * @param entityId Entity id of the player the state belongs to
+     * @param mask Flags of the fields included
+     * @param origin Origin type, or an empty string for none
+     * @param playtime Playtime in minutes
+     * @param abilityProgress Ability progress percentage
+     * @param unlockedAbilities Number of unlocked abilities
+     */
+    public OriginStatePacket(int entityId, int mask, String origin, long playtime, float abilityProgress, int unlockedAbilities) {
+        this.entityId = entityId;
+        this.mask = mask;
+        this.origin = origin;
+        this.playtime = playtime;
+        this.abilityProgress = abilityProgress;
+        this.unlockedAbilities = unlockedAbilities;
+    }
+    
+    /**
+     * Writes the packet
+     * 
+     * @param buf The buffer to write to
+     */
+    public void encode(FriendlyByteBuf buf) {
+        buf.writeVarInt(entityId);
+        buf.writeByte(mask);
+        if ((mask & ORIGIN) != 0) {
+            buf.writeUtf(origin);
+        }
+        if ((mask & PLAYTIME) != 0) {
+            buf.writeVarLong(playtime);
+        }
+        if ((mask & ABILITY_PROGRESS) != 0) {
+            buf.writeFloat(abilityProgress);
+        }
+        if ((mask & UNLOCKED_ABILITIES) != 0) {
+            buf.writeByte(unlockedAbilities);
+        }
+    }
+    
+    /**
+     * Reads a packet
+     * 
+     * @param buf The buffer to read from
+     * @return The decoded packet; fields not in the mask are zero
+     */
+    public static OriginStatePacket decode(FriendlyByteBuf buf) {
+        int entityId = buf.readVarInt();
+        int mask = buf.readUnsignedByte();
+        String origin = (mask & ORIGIN) != 0 ? buf.readUtf() : "";
+        long playtime = (mask & PLAYTIME) != 0 ? buf.readVarLong() : 0L;
+        float abilityProgress = (mask & ABILITY_PROGRESS) != 0 ? buf.readFloat() : 0.0f;
+        int unlockedAbilities = (mask & UNLOCKED_ABILITIES) != 0 ? buf.readUnsignedByte() : 0;
+        return new OriginStatePacket(entityId, mask, origin, playtime, abilityProgress, unlockedAbilities);
+    }
+    
+    /**
+     * Applies the packet to the client state store on the client main thread
+     * 
+     * @param context The network context
+     */
+    public void handle(Supplier<NetworkEvent.Context> context) {
+        DistExecutor.unsafeRunWhenOn(Dist.CLIENT, () -> () -> ClientOriginState.apply(this));
+    }
+    
+    /**
+     * Gets the entity id of the player the state belongs to
+     * 
+     * @return The player's entity id
+     */
+    public int getEntityId() {
+        return entityId;
+    }
+    
+    /**
+     * Gets the flags of the fields included
+     * 
+     * @return Field flags
+     */
+    public int getMask() {
+        return mask;
+    }
+    
+    /**
+     * Gets the origin
+     * 
+     * @return The origin type, or an empty string if none or not included
+     */
+    public String getOrigin() {
+        return origin;
+    }
+    
+    /**
+     * Gets the playtime
+     * 
+     * @return Playtime in minutes
+     */
+    public long getPlaytime() {
+        return playtime;
+    }
+    
+    /**
+     * Gets the ability progress
+     * 
+     * @return Progress as a percentage (0.0 to 100.0)
+     */
+    public float getAbilityProgress() {
+        return abilityProgress;
+    }
+    
+    /**
+     * Gets the number of unlocked abilities
+     * 
+     * @return Number of unlocked abilities (0-3)
+     */
+    public int getUnlockedAbilities() {
+        return unlockedAbilities;
+    }
+}
\ No newline at end of file
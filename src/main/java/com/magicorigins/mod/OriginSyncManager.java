@@ -0,0 +1,229 @@
+package com.magicorigins.mod;
+
+import net.minecraft.server.MinecraftServer;
+import net.minecraft.server.level.ServerPlayer;
+import net.minecraftforge.event.TickEvent;
+import net.minecraftforge.event.entity.player.PlayerEvent;
+import net.minecraftforge.event.server.ServerStoppedEvent;
+import net.minecraftforge.eventbus.api.SubscribeEvent;
+import net.minecraftforge.fml.common.Mod;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Sends origin and progression state to clients as deltas
+ * Code that changes a player's state marks the player dirty; at the end of the tick each dirty player's
+ * state is compared with what the client last received and one packet with only the changed fields is sent.
+ * The origin is also sent to players tracking the player, known from the tracking events, and only to
+ * clients that have the mod. Must only be used from the server thread
+ * 
+ * @author MagicOrigins Mod Team
+ * @version 1.0.0
+ */
+@Mod.EventBusSubscriber(modid = MagicOriginsMod.MOD_ID)
+public class OriginSyncManager {
+    
+    /**
+     * State last sent to each online player's own client
+     */
+    private static final Map<UUID, SentState> SENT = new HashMap<>();
+    
+    /**
+     * Players to check at the end of the tick, with fields to send regardless of the last sent state
+     */
+    private static final Map<UUID, Integer> DIRTY = new LinkedHashMap<>();
+    
+    /**
+     * UUIDs of the players tracking each online player
+     */
+    private static final Map<UUID, Set<UUID>> TRACKERS = new HashMap<>();
+    
+    /**
+     * Values last sent to a player's client
+     */
+    private static final class SentState {
+        private Origin origin;
+        private long playtime;
+        private float abilityProgress;
+        private int unlockedAbilities;
+    }
+    
+    /**
+     * Marks a player's state as possibly changed
+     * 
+     * @param player The server player
+     */
+    public static void markDirty(ServerPlayer player) {
+        DIRTY.merge(player.getUUID(), 0, (a, b) -> a | b);
+    }
+    
+    /**
+     * Schedules a full snapshot for a player, for example on login or respawn
+     * 
+     * @param player The server player
+     */
+    public static void markFull(ServerPlayer player) {
+        DIRTY.merge(player.getUUID(), OriginStatePacket.ALL, (a, b) -> a | b);
+    }
+    
+    /**
+     * Sends the pending deltas at the end of each tick
+     * 
+     * @param event The ServerTickEvent
+     */
+    @SubscribeEvent
+    public static void onServerTick(TickEvent.ServerTickEvent event) {
+        if (event.phase != TickEvent.Phase.END || DIRTY.isEmpty()) {
+            return;
+        }
+        
+        MinecraftServer server = event.getServer();
+        for (Map.Entry<UUID, Integer> entry : DIRTY.entrySet()) {
+            ServerPlayer player = server.getPlayerList().getPlayer(entry.getKey());
+            if (player != null) {
+                sync(player, entry.getValue());
+            }
+        }
+        DIRTY.clear();
+    }
+    
+    /**
+     * Sends a player's origin to a player who starts tracking them
+     * 
+     * @param event The StartTracking event
+     */
+    @SubscribeEvent
+    public static void onStartTracking(PlayerEvent.StartTracking event) {
+        if (event.getTarget() instanceof ServerPlayer target && event.getEntity() instanceof ServerPlayer tracker) {
+            TRACKERS.computeIfAbsent(target.getUUID(), key -> new HashSet<>()).add(tracker.getUUID());
+            Origin origin = OriginAssignmentHandler.getCachedPlayerOrigin(target);
+            if (origin != null) {
+                MagicOriginsNetwork.sendTo(tracker,
+                    new OriginStatePacket(target.getId(), OriginStatePacket.ORIGIN, origin.getName(), 0L, 0.0f, 0));
+            }
+        }
+    }
+    
+    /**
+     * Forgets a tracker of a player
+     * 
+     * @param event The StopTracking event
+     */
+    @SubscribeEvent
+    public static void onStopTracking(PlayerEvent.StopTracking event) {
+        if (event.getTarget() instanceof ServerPlayer target) {
+            Set<UUID> trackers = TRACKERS.get(target.getUUID());
+            if (trackers != null && trackers.remove(event.getEntity().getUUID()) && trackers.isEmpty()) {
+                TRACKERS.remove(target.getUUID());
+            }
+        }
+    }
+    
+    /**
+     * Sends a full snapshot after respawn, which gives the player a new entity id
+     * 
+     * @param event The PlayerRespawnEvent
+     */
+    @SubscribeEvent
+    public static void onPlayerRespawn(PlayerEvent.PlayerRespawnEvent event) {
+        if (event.getEntity() instanceof ServerPlayer player) {
+            markFull(player);
+        }
+    }
+    
+    /**
+     * Sends a full snapshot after a dimension change
+     * 
+     * @param event The PlayerChangedDimensionEvent
+     */
+    @SubscribeEvent
+    public static void onPlayerChangedDimension(PlayerEvent.PlayerChangedDimensionEvent event) {
+        if (event.getEntity() instanceof ServerPlayer player) {
+            markFull(player);
+        }
+    }
+    
+    /**
+     * Forgets the sent state of a player who logged out
+     * 
+     * @param event The PlayerLoggedOutEvent
+     */
+    @SubscribeEvent
+    public static void onPlayerLogout(PlayerEvent.PlayerLoggedOutEvent event) {
+        UUID uuid = event.getEntity().getUUID();
+        SENT.remove(uuid);
+        DIRTY.remove(uuid);
+        TRACKERS.remove(uuid);
+        TRACKERS.values().removeIf(trackers -> trackers.remove(uuid) && trackers.isEmpty());
+    }
+    
+    /**
+     * Clears all sync state once the server has stopped
+     * 
+     * @param event The ServerStoppedEvent
+     */
+    @SubscribeEvent
+    public static void onServerStopped(ServerStoppedEvent event) {
+        SENT.clear();
+        DIRTY.clear();
+        TRACKERS.clear();
+    }
+    
+    /**
+     * Compares a player's state with the last sent state and sends the changed fields
+     * 
+     * @param player The server player
+     * @param forced Fields to send even if unchanged
+     */
+    private static void sync(ServerPlayer player, int forced) {
+        SentState sent = SENT.computeIfAbsent(player.getUUID(), key -> new SentState());
+        Origin origin = OriginAssignmentHandler.getCachedPlayerOrigin(player);
+        PlayerModData data = PlayerDataHandler.getData(player);
+        
+        int mask = forced;
+        if (origin != sent.origin) {
+            mask |= OriginStatePacket.ORIGIN;
+        }
+        if (data.getPlaytime() != sent.playtime) {
+            mask |= OriginStatePacket.PLAYTIME;
+        }
+        if (Float.floatToIntBits(data.getAbilityProgress()) != Float.floatToIntBits(sent.abilityProgress)) {
+            mask |= OriginStatePacket.ABILITY_PROGRESS;
+        }
+        if (data.getUnlockedAbilities() != sent.unlockedAbilities) {
+            mask |= OriginStatePacket.UNLOCKED_ABILITIES;
+        }
+        if (mask == 0) {
+            return;
+        }
+        
+        boolean originChanged = origin != sent.origin;
+        String originName = origin != null ? origin.getName() : "";
+        sent.origin = origin;
+        sent.playtime = data.getPlaytime();
+        sent.abilityProgress = data.getAbilityProgress();
+        sent.unlockedAbilities = data.getUnlockedAbilities();
+        
+        MagicOriginsNetwork.sendTo(player, new OriginStatePacket(player.getId(), mask, originName,
+            sent.playtime, sent.abilityProgress, sent.unlockedAbilities));
+        
+        // Other players only see the origin
+        Set<UUID> trackers = TRACKERS.get(player.getUUID());
+        if (trackers != null && (originChanged || (forced & OriginStatePacket.ORIGIN) != 0)) {
+            OriginStatePacket originPacket =
+                new OriginStatePacket(player.getId(), OriginStatePacket.ORIGIN, originName, 0L, 0.0f, 0);
+            for (UUID trackerId : trackers) {
+                ServerPlayer tracker = player.server.getPlayerList().getPlayer(trackerId);
+                if (tracker != null) {
+                    MagicOriginsNetwork.sendTo(tracker, originPacket);
+                }
+            }
+        }
+        ModMetrics.SYNC_PACKETS.increment();
+    }
+}
\ No newline at end of file
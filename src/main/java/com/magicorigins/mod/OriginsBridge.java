@@ -0,0 +1,44 @@
+package com.magicorigins.mod;
+
+import net.minecraft.server.level.ServerPlayer;
+
+import java.util.List;
+
+/**
+ * Bridge to the Origins mod API
+ * Implementations are resolved once at startup by {@link OriginsIntegration}
+ * 
+ * @author MagicOrigins Mod Team
+ * @version 1.0.0
+ */
+public interface OriginsBridge {
+    
+    /**
+     * Gets a short name of this bridge for logging
+     * 
+     * @return The bridge name
+     */
+    String getName();
+    
+    /**
+     * Sets a player's origin without synchronizing it to clients
+     * 
+     * @param player The server player
+     * @param originType The origin to set
+     */
+    void setOrigin(ServerPlayer player, Origin originType);
+    
+    /**
+     * Clears a player's origin without synchronizing it to clients
+     * 
+     * @param player The server player
+     */
+    void clearOrigin(ServerPlayer player);
+    
+    /**
+     * Synchronizes the origin state of a batch of players to clients
+     * 
+     * @param players The players whose origin changed this tick
+     */
+    void syncAll(List<ServerPlayer> players);
+}
\ No newline at end of file
@@ -0,0 +1,189 @@
+package com.magicorigins.mod;
+
+import net.minecraft.server.MinecraftServer;
+import net.minecraft.server.level.ServerPlayer;
+import net.minecraftforge.event.TickEvent;
+import net.minecraftforge.event.server.ServerStoppingEvent;
+import net.minecraftforge.eventbus.api.SubscribeEvent;
+import net.minecraftforge.fml.ModList;
+import net.minecraftforge.fml.common.Mod;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Forwards origin assignments to the Origins mod through an {@link OriginsBridge}
+ * Origin and sync requests are queued and flushed once per tick, so a burst of logins
+ * results in a single sync batch
+ * 
+ * @author MagicOrigins Mod Team
+ * @version 1.0.0
+ */
+@Mod.EventBusSubscriber(modid = MagicOriginsMod.MOD_ID)
+public class OriginsIntegration {
+    
+    /**
+     * Mod id of the Origins mod
+     */
+    private static final String ORIGINS_MOD_ID = "origins";
+    
+    /**
+     * System property selecting a bridge explicitly ("fake", "none" or "origins")
+     */
+    private static final String BRIDGE_PROPERTY = "magicorigins.originsBridge";
+    
+    /**
+     * Pending origin changes by player UUID, null for a reset; later requests replace earlier ones
+     */
+    private static final Map<UUID, Origin> PENDING_ORIGINS = new LinkedHashMap<>();
+    
+    /**
+     * Players to synchronize at the next flush
+     */
+    private static final Set<UUID> PENDING_SYNCS = new LinkedHashSet<>();
+    
+    /**
+     * The bridge resolved at startup
+     */
+    private static volatile OriginsBridge bridge = NoOpOriginsBridge.INSTANCE;
+    
+    /**
+     * Resolves the bridge once; falls back to the no-op bridge if the Origins API is unavailable
+     */
+    public static void initialize() {
+        String requested = System.getProperty(BRIDGE_PROPERTY, "");
+        
+        if ("fake".equals(requested)) {
+            bridge = new FakeOriginsBridge();
+        } else if ("none".equals(requested) || !ModList.get().isLoaded(ORIGINS_MOD_ID)) {
+            bridge = NoOpOriginsBridge.INSTANCE;
+        } else {
+            try {
+                bridge = ReflectiveOriginsBridge.create();
+            } catch (ReflectiveOperationException | ClassCastException e) {
+                MagicOriginsMod.LOGGER.warn("Origins mod is loaded but its API could not be resolved, "
+                    + "origins will only be stored locally: {}", e.toString());
+                bridge = NoOpOriginsBridge.INSTANCE;
+            }
+        }
+        
+        MagicOriginsMod.LOGGER.info("Using Origins bridge: {}", bridge.getName());
+    }
+    
+    /**
+     * Gets the active bridge
+     * 
+     * @return The resolved bridge
+     */
+    public static OriginsBridge getBridge() {
+        return bridge;
+    }
+    
+    /**
+     * Queues an origin change and sync for a player
+     * 
+     * @param player The server player
+     * @param originType The origin to set
+     */
+    public static void queueOrigin(ServerPlayer player, Origin originType) {
+        if (bridge == NoOpOriginsBridge.INSTANCE) {
+            return;
+        }
+        
+        PENDING_ORIGINS.put(player.getUUID(), originType);
+        PENDING_SYNCS.add(player.getUUID());
+    }
+    
+    /**
+     * Queues clearing a player's origin and a sync
+     * 
+     * @param player The server player
+     */
+    public static void queueReset(ServerPlayer player) {
+        if (bridge == NoOpOriginsBridge.INSTANCE) {
+            return;
+        }
+        
+        PENDING_ORIGINS.put(player.getUUID(), null);
+        PENDING_SYNCS.add(player.getUUID());
+    }
+    
+    /**
+     * Queues a sync for a player without changing their origin
+     * 
+     * @param player The server player
+     */
+    public static void queueSync(ServerPlayer player) {
+        if (bridge == NoOpOriginsBridge.INSTANCE) {
+            return;
+        }
+        
+        PENDING_SYNCS.add(player.getUUID());
+    }
+    
+    /**
+     * Flushes queued requests at the end of each tick
+     * 
+     * @param event The ServerTickEvent
+     */
+    @SubscribeEvent
+    public static void onServerTick(TickEvent.ServerTickEvent event) {
+        if (event.phase == TickEvent.Phase.END && !PENDING_SYNCS.isEmpty()) {
+            flush(event.getServer());
+        }
+    }
+    
+    /**
+     * Flushes queued requests before the server stops
+     * 
+     * @param event The ServerStoppingEvent
+     */
+    @SubscribeEvent
+    public static void onServerStopping(ServerStoppingEvent event) {
+        flush(event.getServer());
+    }
+    
+    /**
+     * Applies all queued origin changes and resets, then synchronizes the affected players in one batch
+     * Players that logged out in the meantime are skipped
+     * 
+     * @param server The running server
+     */
+    private static void flush(MinecraftServer server) {
+        OriginsBridge activeBridge = bridge;
+        
+        PENDING_ORIGINS.forEach((uuid, originType) -> {
+            ServerPlayer player = server.getPlayerList().getPlayer(uuid);
+            if (player == null) {
+                return;
+            }
+            
+            if (originType != null) {
+                activeBridge.setOrigin(player, originType);
+            } else {
+                activeBridge.clearOrigin(player);
+            }
+        });
+        
+        List<ServerPlayer> batch = new ArrayList<>(PENDING_SYNCS.size());
+        for (UUID uuid : PENDING_SYNCS) {
+            ServerPlayer player = server.getPlayerList().getPlayer(uuid);
+            if (player != null) {
+                batch.add(player);
+            }
+        }
+        
+        PENDING_ORIGINS.clear();
+        PENDING_SYNCS.clear();
+        
+        if (!batch.isEmpty()) {
+            activeBridge.syncAll(batch);
+            MagicOriginsMod.LOGGER.debug("Synchronized origins for {} players", batch.size());
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,22 @@
+package com.magicorigins.mod;
+
+import net.minecraft.server.level.ServerPlayer;
+
+/**
+ * A passive effect evaluator registered for an origin
+ * Evaluated periodically for every online player of the origin by {@link PassiveAbilityEngine}
+ * 
+ * @author MagicOrigins Mod Team
+ * @version 1.0.0
+ */
+@FunctionalInterface
+public interface PassiveAbility {
+    
+    /**
+     * Evaluates the ability for a player and applies or refreshes its effects
+     * Use {@link PassiveAbilityEngine#ensureEffect} so active effects are not re-applied
+     * 
+     * @param player The server player
+     */
+    void evaluate(ServerPlayer player);
+}
\ No newline at end of file
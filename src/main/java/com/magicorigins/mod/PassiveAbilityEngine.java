@@ -0,0 +1,302 @@
+package com.magicorigins.mod;
+
+import net.minecraft.server.MinecraftServer;
+import net.minecraft.server.level.ServerPlayer;
+import net.minecraft.world.effect.MobEffect;
+import net.minecraft.world.effect.MobEffectInstance;
+import net.minecraft.world.effect.MobEffects;
+import net.minecraftforge.event.TickEvent;
+import net.minecraftforge.event.entity.player.PlayerEvent;
+import net.minecraftforge.event.server.ServerStoppedEvent;
+import net.minecraftforge.eventbus.api.SubscribeEvent;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * Applies the passive abilities of each player's origin
+ * Players are spread across evaluation slots, one slot per tick, so every player is evaluated
+ * once per interval and the per-tick cost stays flat instead of spiking every Nth tick.
+ * Registered by {@link ModFeature#PASSIVE_ABILITIES} only while passive abilities are enabled
+ * 
+ * @author MagicOrigins Mod Team
+ * @version 1.0.0
+ */
+public class PassiveAbilityEngine {
+    
+    /**
+     * Extra ticks an applied effect lasts beyond two evaluation intervals
+     */
+    private static final int EFFECT_GRACE_TICKS = 20;
+    
+    /**
+     * Light level at or below which shadow players turn invisible
+     */
+    private static final int SHADOW_MAX_LIGHT = 4;
+    
+    /**
+     * Registered abilities indexed by origin id, null for origins without abilities
+     */
+    private static PassiveAbility[][] abilitiesByOrigin = new PassiveAbility[0][];
+    
+    /**
+     * Whether registration is closed; set once mod loading completes, after which the tables are only read
+     */
+    private static volatile boolean frozen = false;
+    
+    /**
+     * Tracked players by evaluation slot
+     */
+    private static List<List<UUID>> slots = createSlots(MagicOriginsConfig.passiveIntervalTicks);
+    
+    /**
+     * Evaluation slot of each tracked player
+     */
+    private static final Map<UUID, Integer> SLOT_BY_PLAYER = new HashMap<>();
+    
+    /**
+     * Slot evaluated in the next tick
+     */
+    private static int nextSlot = 0;
+    
+    /**
+     * Registers the built-in abilities of the default origins
+     */
+    public static void registerDefaultAbilities() {
+        registerAbilities(OriginRegistry.WATER, player -> {
+            PlayerEnvironment environment = PlayerEnvironment.get(player);
+            if (environment.isInWater()) {
+                ensureEffect(player, MobEffects.DOLPHINS_GRACE, 0);
+            }
+            if (environment.isUnderwater()) {
+                ensureEffect(player, MobEffects.WATER_BREATHING, 0);
+            }
+        });
+        registerAbilities(OriginRegistry.NATURE, player -> {
+            if (PlayerEnvironment.get(player).isForest()) {
+                ensureEffect(player, MobEffects.REGENERATION, 0);
+            }
+        });
+        registerAbilities(OriginRegistry.SWAMP, player -> {
+            if (player.hasEffect(MobEffects.POISON)) {
+                player.removeEffect(MobEffects.POISON);
+            }
+            if (PlayerEnvironment.get(player).isInWater()) {
+                ensureEffect(player, MobEffects.DOLPHINS_GRACE, 0);
+            }
+        });
+        registerAbilities(OriginRegistry.STONE, player -> ensureEffect(player, MobEffects.DAMAGE_RESISTANCE, 0));
+        registerAbilities(OriginRegistry.ECHO, player -> ensureEffect(player, MobEffects.MOVEMENT_SPEED, 0));
+        registerAbilities(OriginRegistry.FIRE, player -> {
+            ensureEffect(player, MobEffects.FIRE_RESISTANCE, 0);
+            if (PlayerEnvironment.get(player).isNearLava()) {
+                ensureEffect(player, MobEffects.DAMAGE_BOOST, 0);
+            }
+        });
+        registerAbilities(OriginRegistry.FROST, player -> {
+            if (player.getTicksFrozen() > 0) {
+                player.setTicksFrozen(0);
+            }
+        });
+        registerAbilities(OriginRegistry.AMPHIBIAN, player -> {
+            ensureEffect(player, MobEffects.JUMP, 1);
+            if (PlayerEnvironment.get(player).isInWaterOrRain()) {
+                ensureEffect(player, MobEffects.DOLPHINS_GRACE, 0);
+            }
+        });
+        registerAbilities(OriginRegistry.SHADOW, player -> {
+            if (PlayerEnvironment.get(player).getLightLevel() <= SHADOW_MAX_LIGHT) {
+                ensureEffect(player, MobEffects.INVISIBILITY, 0);
+            }
+        });
+        
+        MagicOriginsMod.LOGGER.info("Registered passive abilities for {} origins", 
+            Arrays.stream(abilitiesByOrigin).filter(Objects::nonNull).count());
+    }
+    
+    /**
+     * Registers the passive abilities of an origin, replacing any previous abilities
+     * Must be called during mod setup, before mod loading completes; safe to call from parallel setup work
+     * 
+     * @param origin The origin
+     * @param abilities The origin's passive abilities
+     * @throws IllegalStateException If mod loading has already completed
+     */
+    public static synchronized void registerAbilities(Origin origin, PassiveAbility... abilities) {
+        if (frozen) {
+            throw new IllegalStateException("Passive abilities for " + origin + " registered after mod loading completed");
+        }
+        
+        if (origin.getId() >= abilitiesByOrigin.length) {
+            abilitiesByOrigin = Arrays.copyOf(abilitiesByOrigin, origin.getId() + 1);
+        }
+        abilitiesByOrigin[origin.getId()] = abilities.clone();
+    }
+    
+    /**
+     * Closes registration so the ability table stays fixed while players are online
+     */
+    public static void freeze() {
+        frozen = true;
+    }
+    
+    /**
+     * Applies an effect unless an equal or stronger instance is active long enough to last until the next evaluation
+     * Effects are ambient and hide their particles
+     * 
+     * @param player The server player
+     * @param effect The effect to apply
+     * @param amplifier Effect amplifier
+     */
+    public static void ensureEffect(ServerPlayer player, MobEffect effect, int amplifier) {
+        int interval = slots.size();
+        MobEffectInstance active = player.getEffect(effect);
+        if (active != null && (active.getAmplifier() > amplifier
+            || (active.getAmplifier() == amplifier && active.getDuration() > interval + 1))) {
+            return;
+        }
+        player.addEffect(new MobEffectInstance(effect, interval * 2 + EFFECT_GRACE_TICKS, amplifier, true, false, true));
+    }
+    
+    /**
+     * Starts evaluating a player's passive abilities
+     * Called by the {@link LoginPipeline}; the player goes into the least loaded slot
+     * 
+     * @param player The server player
+     */
+    static void track(ServerPlayer player) {
+        UUID uuid = player.getUUID();
+        if (SLOT_BY_PLAYER.containsKey(uuid)) {
+            return;
+        }
+        
+        int slot = 0;
+        for (int i = 1; i < slots.size(); i++) {
+            if (slots.get(i).size() < slots.get(slot).size()) {
+                slot = i;
+            }
+        }
+        slots.get(slot).add(uuid);
+        SLOT_BY_PLAYER.put(uuid, slot);
+    }
+    
+    /**
+     * Stops evaluating a player who logged out
+     * 
+     * @param event The PlayerLoggedOutEvent
+     */
+    @SubscribeEvent
+    public static void onPlayerLogout(PlayerEvent.PlayerLoggedOutEvent event) {
+        Integer slot = SLOT_BY_PLAYER.remove(event.getEntity().getUUID());
+        if (slot != null) {
+            slots.get(slot).remove(event.getEntity().getUUID());
+        }
+    }
+    
+    /**
+     * Evaluates one slot of players at the end of each tick
+     * 
+     * @param event The ServerTickEvent
+     */
+    @SubscribeEvent
+    public static void onServerTick(TickEvent.ServerTickEvent event) {
+        if (event.phase != TickEvent.Phase.END || SLOT_BY_PLAYER.isEmpty()) {
+            return;
+        }
+        
+        if (slots.size() != MagicOriginsConfig.passiveIntervalTicks) {
+            redistribute(MagicOriginsConfig.passiveIntervalTicks);
+        }
+        
+        if (nextSlot >= slots.size()) {
+            nextSlot = 0;
+        }
+        List<UUID> players = slots.get(nextSlot++);
+        if (players.isEmpty()) {
+            return;
+        }
+        
+        long start = System.nanoTime();
+        MinecraftServer server = event.getServer();
+        for (UUID uuid : players) {
+            ServerPlayer player = server.getPlayerList().getPlayer(uuid);
+            if (player == null || !player.isAlive() || player.isSpectator()) {
+                continue;
+            }
+            
+            Origin origin = OriginAssignmentHandler.getCachedPlayerOrigin(player);
+            PassiveAbility[] abilities = origin != null && origin.getId() < abilitiesByOrigin.length
+                ? abilitiesByOrigin[origin.getId()] : null;
+            if (abilities == null) {
+                continue;
+            }
+            
+            for (PassiveAbility ability : abilities) {
+                try {
+                    ability.evaluate(player);
+                } catch (Exception e) {
+                    MagicOriginsMod.LOGGER.error("Passive ability of origin '{}' failed for player '{}': {}", 
+                        origin, player.getGameProfile().getName(), e.getMessage());
+                }
+            }
+        }
+        ModMetrics.PASSIVE_TICK_LATENCY.recordSince(start);
+    }
+    
+    /**
+     * Clears tracked players once the server has stopped
+     * 
+     * @param event The ServerStoppedEvent
+     */
+    @SubscribeEvent
+    public static void onServerStopped(ServerStoppedEvent event) {
+        clear();
+    }
+    
+    /**
+     * Starts evaluating all online players, after the feature was enabled at runtime
+     * 
+     * @param server The running server
+     */
+    static void trackOnlinePlayers(MinecraftServer server) {
+        for (ServerPlayer player : server.getPlayerList().getPlayers()) {
+            track(player);
+        }
+    }
+    
+    /**
+     * Stops evaluating all players
+     */
+    static void clear() {
+        slots.forEach(List::clear);
+        SLOT_BY_PLAYER.clear();
+        nextSlot = 0;
+    }
+    
+    /**
+     * Spreads the tracked players evenly over a new number of slots after the interval changed
+     */
+    private static void redistribute(int interval) {
+        List<UUID> players = new ArrayList<>(SLOT_BY_PLAYER.keySet());
+        slots = createSlots(interval);
+        SLOT_BY_PLAYER.clear();
+        for (int i = 0; i < players.size(); i++) {
+            slots.get(i % interval).add(players.get(i));
+            SLOT_BY_PLAYER.put(players.get(i), i % interval);
+        }
+        nextSlot = 0;
+    }
+    
+    private static List<List<UUID>> createSlots(int interval) {
+        List<List<UUID>> created = new ArrayList<>(interval);
+        for (int i = 0; i < interval; i++) {
+            created.add(new ArrayList<>());
+        }
+        return created;
+    }
+}
\ No newline at end of file
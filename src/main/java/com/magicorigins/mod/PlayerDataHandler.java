@@ -2,13 +2,16 @@ package com.magicorigins.mod;
 
 import net.minecraft.server.level.ServerPlayer;
 import net.minecraft.nbt.CompoundTag;
+import net.minecraft.world.entity.Entity;
+import net.minecraftforge.event.AttachCapabilitiesEvent;
 import net.minecraftforge.event.entity.player.PlayerEvent;
 import net.minecraftforge.eventbus.api.SubscribeEvent;
 import net.minecraftforge.fml.common.Mod;
 
 /**
  * Handles player data persistence and management
- * Manages saving and loading player-specific mod data
+ * Player data lives in the {@link PlayerModData} capability, loaded lazily from and saved to the
+ * {@link PlayerDataStore}; this class attaches it, migrates legacy persistent NBT and defines the NBT layout
  * 
  * @author MagicOrigins Mod Team
  * @version 1.0.0
@@ -17,44 +20,89 @@ import net.minecraftforge.fml.common.Mod;
 public class PlayerDataHandler {
     
     /**
-     * Root NBT key for all mod data
+     * Legacy root NBT key for mod data stored in the player's persistent data
      */
-    private static final String MOD_DATA_KEY = "magicorigins_data";
+    static final String MOD_DATA_KEY = "magicorigins_data";
     
     /**
      * NBT key for playtime tracking
      */
-    private static final String PLAYTIME_KEY = "total_playtime";
+    static final String PLAYTIME_KEY = "total_playtime";
+    
+    /**
+     * NBT key for playtime ticks not yet counted as a full minute
+     */
+    static final String PLAYTIME_REMAINDER_KEY = "playtime_remainder_ticks";
     
     /**
      * NBT key for ability unlock progress
      */
-    private static final String ABILITY_PROGRESS_KEY = "ability_progress";
+    static final String ABILITY_PROGRESS_KEY = "ability_progress";
     
     /**
      * NBT key for unlocked abilities
      */
-    private static final String UNLOCKED_ABILITIES_KEY = "unlocked_abilities";
+    static final String UNLOCKED_ABILITIES_KEY = "unlocked_abilities";
+    
+    /**
+     * NBT key for progression counters, indexed by trigger ordinal
+     */
+    static final String PROGRESS_COUNTERS_KEY = "progress_counters";
     
     /**
-     * Handles player data loading when player joins
+     * Attaches the player data capability to every player entity
      * 
-     * @param event The PlayerLoggedInEvent
+     * @param event The AttachCapabilitiesEvent for entities
      */
     @SubscribeEvent
-    public static void onPlayerLogin(PlayerEvent.PlayerLoggedInEvent event) {
-        if (!(event.getEntity() instanceof ServerPlayer serverPlayer)) {
+    public static void onAttachCapabilities(AttachCapabilitiesEvent<Entity> event) {
+        if (!(event.getObject() instanceof ServerPlayer)) {
             return;
         }
         
-        String username = serverPlayer.getGameProfile().getName();
-        MagicOriginsMod.LOGGER.debug("Loading player data for: {}", username);
+        PlayerModDataProvider provider = new PlayerModDataProvider();
+        event.addCapability(PlayerModDataProvider.ID, provider);
+        event.addListener(provider::invalidate);
+    }
+    
+    /**
+     * Copies player data to the new player entity on respawn or return from the End
+     * 
+     * @param event The Clone event
+     */
+    @SubscribeEvent
+    public static void onPlayerClone(PlayerEvent.Clone event) {
+        if (!(event.getEntity() instanceof ServerPlayer newPlayer)
+                || !(event.getOriginal() instanceof ServerPlayer original)) {
+            return;
+        }
+        
+        original.reviveCaps();
+        original.getCapability(PlayerModDataProvider.PLAYER_DATA).ifPresent(oldData -> 
+            newPlayer.getCapability(PlayerModDataProvider.PLAYER_DATA).ifPresent(newData -> 
+                newData.copyFrom(oldData)));
+        original.invalidateCaps();
+    }
+    
+    /**
+     * Loads player data when a player joins
+     * Called by the {@link LoginPipeline} with the player's already-read persistent data
+     * 
+     * @param player The server player
+     * @param persistentData The player's persistent data
+     */
+    static void loadOnLogin(ServerPlayer player, CompoundTag persistentData) {
+        long start = System.nanoTime();
+        ModJfrEvents.PlayerData event = ModJfrEvents.beginPlayerData("load");
         
-        // Initialize player data if it doesn't exist
-        initializePlayerData(serverPlayer);
+        // Migrate legacy persistent data into the capability if present
+        initializePlayerData(player, persistentData);
         
         // Load and validate player data
-        loadPlayerData(serverPlayer);
+        loadPlayerData(player);
+        
+        ModMetrics.PLAYER_DATA_LOAD_LATENCY.recordSince(start);
+        ModJfrEvents.finish(event, player.getUUID(), null, "loaded");
     }
     
     /**
@@ -76,75 +124,68 @@ public class PlayerDataHandler {
     }
     
     /**
-     * Initializes default data structure for a new player
+     * Moves data from the legacy persistent NBT compound into the capability
+     * Runs once per player; the legacy compound is removed afterwards
      * 
      * @param player The server player to initialize data for
+     * @param playerData The player's persistent data
      */
-    private static void initializePlayerData(ServerPlayer player) {
-        CompoundTag playerData = player.getPersistentData();
-        
-        if (!playerData.contains(MOD_DATA_KEY)) {
-            CompoundTag modData = new CompoundTag();
-            
-            // Initialize default values
-            modData.putLong(PLAYTIME_KEY, 0L);
-            modData.putFloat(ABILITY_PROGRESS_KEY, 0.0f);
-            modData.putInt(UNLOCKED_ABILITIES_KEY, 0);
-            
-            playerData.put(MOD_DATA_KEY, modData);
+    private static void initializePlayerData(ServerPlayer player, CompoundTag playerData) {
+        if (playerData.contains(MOD_DATA_KEY)) {
+            PlayerModData data = getData(player);
+            readModData(data, playerData.getCompound(MOD_DATA_KEY));
+            data.markDirty();
+            playerData.remove(MOD_DATA_KEY);
             
-            MagicOriginsMod.LOGGER.debug("Initialized player data for: {}", 
+            MagicOriginsMod.LOGGER.debug("Migrated legacy player data for: {}", 
                 player.getGameProfile().getName());
         }
     }
     
     /**
-     * Loads and validates player data from NBT
+     * Logs the player data loaded into the capability
      * 
      * @param player The server player to load data for
      */
     private static void loadPlayerData(ServerPlayer player) {
-        CompoundTag playerData = player.getPersistentData();
+        PlayerModData data = getData(player);
         
-        if (playerData.contains(MOD_DATA_KEY)) {
-            CompoundTag modData = playerData.getCompound(MOD_DATA_KEY);
-            
-            long playtime = modData.getLong(PLAYTIME_KEY);
-            float abilityProgress = modData.getFloat(ABILITY_PROGRESS_KEY);
-            int unlockedAbilities = modData.getInt(UNLOCKED_ABILITIES_KEY);
-            
-            MagicOriginsMod.LOGGER.debug("Loaded data for {}: playtime={}, progress={}, abilities={}", 
-                player.getGameProfile().getName(), playtime, abilityProgress, unlockedAbilities);
-        }
+        MagicOriginsMod.LOGGER.debug("Loaded data for {}: playtime={}, progress={}, abilities={}", 
+            player.getGameProfile().getName(), data.getPlaytime(), data.getAbilityProgress(),
+            data.getUnlockedAbilities());
     }
     
     /**
-     * Saves player data to NBT
+     * Saves player data to the player data store
      * 
      * @param player The server player to save data for
      */
     private static void savePlayerData(ServerPlayer player) {
-        // Data is automatically saved to persistent data
-        // This method can be extended for additional save operations
+        // Only snapshots the data on this thread; the file is written in the background
+        PlayerDataStore.save(player);
         
         MagicOriginsMod.LOGGER.debug("Player data saved for: {}", 
             player.getGameProfile().getName());
     }
     
     /**
-     * Gets the mod-specific data compound for a player
+     * Gets the typed mod data for a player
+     * The stored data is read on the first access after the player entity was created.
+     * Hot-path callers may keep the returned instance for the lifetime of the player entity
      * 
      * @param player The server player
-     * @return The mod data compound tag
+     * @return The player's mod data
      */
-    public static CompoundTag getModData(ServerPlayer player) {
-        CompoundTag playerData = player.getPersistentData();
-        
-        if (!playerData.contains(MOD_DATA_KEY)) {
-            initializePlayerData(player);
+    public static PlayerModData getData(ServerPlayer player) {
+        // orElse(null) rather than orElseThrow, which would allocate a capturing supplier on every call
+        PlayerModData data = player.getCapability(PlayerModDataProvider.PLAYER_DATA).orElse(null);
+        if (data == null) {
+            throw new IllegalStateException("Player data capability missing for " + player.getGameProfile().getName());
         }
-        
-        return playerData.getCompound(MOD_DATA_KEY);
+        if (!data.isLoaded()) {
+            PlayerDataStore.load(player.getUUID(), data);
+        }
+        return data;
     }
     
     /**
@@ -154,8 +195,7 @@ public class PlayerDataHandler {
      * @return Playtime in minutes
      */
     public static long getPlayerPlaytime(ServerPlayer player) {
-        CompoundTag modData = getModData(player);
-        return modData.getLong(PLAYTIME_KEY);
+        return getData(player).getPlaytime();
     }
     
     /**
@@ -165,8 +205,8 @@ public class PlayerDataHandler {
      * @param playtimeMinutes Playtime in minutes
      */
     public static void setPlayerPlaytime(ServerPlayer player, long playtimeMinutes) {
-        CompoundTag modData = getModData(player);
-        modData.putLong(PLAYTIME_KEY, playtimeMinutes);
+        getData(player).setPlaytime(playtimeMinutes);
+        OriginSyncManager.markDirty(player);
     }
     
     /**
@@ -176,8 +216,7 @@ public class PlayerDataHandler {
      * @return Progress as a percentage (0.0 to 100.0)
      */
     public static float getAbilityProgress(ServerPlayer player) {
-        CompoundTag modData = getModData(player);
-        return modData.getFloat(ABILITY_PROGRESS_KEY);
+        return getData(player).getAbilityProgress();
     }
     
     /**
@@ -187,8 +226,8 @@ public class PlayerDataHandler {
      * @param progress Progress percentage (0.0 to 100.0)
      */
     public static void setAbilityProgress(ServerPlayer player, float progress) {
-        CompoundTag modData = getModData(player);
-        modData.putFloat(ABILITY_PROGRESS_KEY, progress);
+        getData(player).setAbilityProgress(progress);
+        OriginSyncManager.markDirty(player);
     }
     
     /**
@@ -198,8 +237,7 @@ public class PlayerDataHandler {
      * @return Number of unlocked abilities (0-3)
      */
     public static int getUnlockedAbilities(ServerPlayer player) {
-        CompoundTag modData = getModData(player);
-        return modData.getInt(UNLOCKED_ABILITIES_KEY);
+        return getData(player).getUnlockedAbilities();
     }
     
     /**
@@ -209,8 +247,38 @@ public class PlayerDataHandler {
      * @param count Number of unlocked abilities (0-3)
      */
     public static void setUnlockedAbilities(ServerPlayer player, int count) {
-        CompoundTag modData = getModData(player);
-        modData.putInt(UNLOCKED_ABILITIES_KEY, Math.max(0, Math.min(3, count)));
+        getData(player).setUnlockedAbilities(count);
+        OriginSyncManager.markDirty(player);
+    }
+    
+    /**
+     * Writes player data into a new NBT compound
+     * 
+     * @param data The player data to write
+     * @return The serialized data
+     */
+    static CompoundTag writeModData(PlayerModData data) {
+        CompoundTag modData = new CompoundTag();
+        modData.putLong(PLAYTIME_KEY, data.getPlaytime());
+        modData.putInt(PLAYTIME_REMAINDER_KEY, data.getPlaytimeRemainderTicks());
+        modData.putFloat(ABILITY_PROGRESS_KEY, data.getAbilityProgress());
+        modData.putInt(UNLOCKED_ABILITIES_KEY, data.getUnlockedAbilities());
+        modData.putLongArray(PROGRESS_COUNTERS_KEY, data.getProgressCounters());
+        return modData;
+    }
+    
+    /**
+     * Reads player data from an NBT compound, using defaults for missing keys
+     * 
+     * @param data The player data to populate
+     * @param modData The serialized data
+     */
+    static void readModData(PlayerModData data, CompoundTag modData) {
+        data.setPlaytime(modData.getLong(PLAYTIME_KEY));
+        data.setPlaytimeRemainderTicks(modData.getInt(PLAYTIME_REMAINDER_KEY));
+        data.setAbilityProgress(modData.getFloat(ABILITY_PROGRESS_KEY));
+        data.setUnlockedAbilities(modData.getInt(UNLOCKED_ABILITIES_KEY));
+        data.setProgressCounters(modData.getLongArray(PROGRESS_COUNTERS_KEY));
     }
     
     /**
@@ -219,9 +287,11 @@ public class PlayerDataHandler {
      * @param player The server player
      */
     public static void resetPlayerData(ServerPlayer player) {
-        CompoundTag playerData = player.getPersistentData();
-        playerData.remove(MOD_DATA_KEY);
-        initializePlayerData(player);
+        ModJfrEvents.PlayerData event = ModJfrEvents.beginPlayerData("reset");
+        player.getPersistentData().remove(MOD_DATA_KEY);
+        getData(player).reset();
+        OriginSyncManager.markDirty(player);
+        ModJfrEvents.finish(event, player.getUUID(), null, "reset");
         
         MagicOriginsMod.LOGGER.info("Reset all mod data for player: {}", 
             player.getGameProfile().getName());
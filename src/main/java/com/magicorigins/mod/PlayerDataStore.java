@@ -0,0 +1,292 @@
+package com.magicorigins.mod;
+
+import net.minecraft.nbt.CompoundTag;
+import net.minecraft.nbt.NbtIo;
+import net.minecraft.server.MinecraftServer;
+import net.minecraft.server.level.ServerPlayer;
+import net.minecraft.world.level.storage.LevelResource;
+import net.minecraftforge.event.TickEvent;
+import net.minecraftforge.event.entity.player.PlayerEvent;
+import net.minecraftforge.event.server.ServerAboutToStartEvent;
+import net.minecraftforge.event.server.ServerStoppedEvent;
+import net.minecraftforge.eventbus.api.SubscribeEvent;
+import net.minecraftforge.fml.common.Mod;
+
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-player store for mod data, kept outside the vanilla player files
+ * Each player's data lives in {@code <world>/magicorigins/playerdata/<uuid>.dat}. Dirty data is snapshotted
+ * on the server thread and written behind by a single background thread through a temporary file and an
+ * atomic rename, so saves never block the tick and a crash never leaves a half-written file.
+ * Data is read lazily the first time a player's data is accessed.
+ * 
+ * @author MagicOrigins Mod Team
+ * @version 1.0.0
+ */
+@Mod.EventBusSubscriber(modid = MagicOriginsMod.MOD_ID)
+public class PlayerDataStore {
+    
+    /**
+     * Folder of the store inside the world folder
+     */
+    private static final LevelResource STORE_ROOT = new LevelResource("magicorigins");
+    
+    /**
+     * Maximum time to wait for pending writes when the server stops
+     */
+    private static final long SHUTDOWN_TIMEOUT_SECONDS = 30L;
+    
+    /**
+     * Snapshots waiting to be written, by player; a newer snapshot replaces an older one
+     */
+    private static final ConcurrentHashMap<UUID, CompoundTag> PENDING = new ConcurrentHashMap<>();
+    
+    /**
+     * Players whose last write failed and must be retried
+     */
+    private static final Set<UUID> FAILED = ConcurrentHashMap.newKeySet();
+    
+    /**
+     * Store directory of the running server
+     */
+    private static volatile Path directory;
+    
+    /**
+     * Background writer of the running server
+     */
+    private static ExecutorService writer;
+    
+    /**
+     * Ticks elapsed since the last periodic save
+     */
+    private static int ticksSinceSave = 0;
+    
+    /**
+     * Opens the store for the world that is about to load
+     * 
+     * @param event The ServerAboutToStartEvent
+     */
+    @SubscribeEvent
+    public static void onServerAboutToStart(ServerAboutToStartEvent event) {
+        Path dir = event.getServer().getWorldPath(STORE_ROOT).resolve("playerdata");
+        try {
+            Files.createDirectories(dir);
+        } catch (IOException e) {
+            MagicOriginsMod.LOGGER.error("Failed to create player data store {}: {}", dir, e.getMessage());
+        }
+        directory = dir;
+        writer = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "MagicOrigins Player Data Writer");
+            thread.setDaemon(true);
+            return thread;
+        });
+        ticksSinceSave = 0;
+    }
+    
+    /**
+     * Loads a player's stored data into a freshly attached data instance
+     * Data already seeded from an older save format is kept and marked dirty when the store has no entry
+     * 
+     * @param uuid The player's UUID
+     * @param data The data to load into
+     */
+    static void load(UUID uuid, PlayerModData data) {
+        data.markLoaded();
+        CompoundTag stored = read(uuid);
+        if (stored != null) {
+            PlayerDataHandler.readModData(data, stored);
+            data.clearDirty();
+        }
+    }
+    
+    /**
+     * Reads a player's stored data, including writes that are still pending
+     * Safe to call from any thread
+     * 
+     * @param uuid The player's UUID
+     * @return The stored data, or null if the player has no entry
+     */
+    public static CompoundTag read(UUID uuid) {
+        CompoundTag pending = PENDING.get(uuid);
+        if (pending != null) {
+            return pending;
+        }
+        
+        Path dir = directory;
+        if (dir == null) {
+            return null;
+        }
+        
+        Path file = dir.resolve(uuid + ".dat");
+        if (!Files.exists(file)) {
+            return null;
+        }
+        
+        try {
+            return NbtIo.readCompressed(file.toFile());
+        } catch (IOException e) {
+            MagicOriginsMod.LOGGER.error("Failed to read stored player data {}: {}", file.getFileName(), e.getMessage());
+            return null;
+        }
+    }
+    
+    /**
+     * Snapshots a player's data if it changed and queues it for writing
+     * 
+     * @param player The server player
+     */
+    static void save(ServerPlayer player) {
+        ModJfrEvents.PlayerData event = ModJfrEvents.beginPlayerData("save");
+        PlayerModData data = PlayerDataHandler.getData(player);
+        if (!data.isDirty()) {
+            ModMetrics.PLAYER_DATA_SAVES_SKIPPED.increment();
+            ModJfrEvents.finish(event, player.getUUID(), null, "unchanged");
+            return;
+        }
+        
+        long start = System.nanoTime();
+        CompoundTag snapshot = PlayerDataHandler.writeModData(data);
+        data.clearDirty();
+        enqueue(player.getUUID(), snapshot);
+        ModMetrics.PLAYER_DATA_SAVE_LATENCY.recordSince(start);
+        ModJfrEvents.finish(event, player.getUUID(), null, "queued");
+    }
+    
+    /**
+     * Gets the number of snapshots waiting to be written
+     * 
+     * @return Number of pending writes
+     */
+    public static int getPendingCount() {
+        return PENDING.size();
+    }
+    
+    /**
+     * Saves a player's data whenever vanilla saves the player (autosave, logout, shutdown)
+     * 
+     * @param event The SaveToFile event
+     */
+    @SubscribeEvent
+    public static void onPlayerSave(PlayerEvent.SaveToFile event) {
+        if (event.getEntity() instanceof ServerPlayer player) {
+            save(player);
+        }
+    }
+    
+    /**
+     * Saves dirty data of online players and retries failed writes at the configured interval
+     * 
+     * @param event The ServerTickEvent
+     */
+    @SubscribeEvent
+    public static void onServerTick(TickEvent.ServerTickEvent event) {
+        if (event.phase != TickEvent.Phase.END || ++ticksSinceSave < MagicOriginsConfig.storageWriteIntervalTicks) {
+            return;
+        }
+        ticksSinceSave = 0;
+        
+        MinecraftServer server = event.getServer();
+        for (ServerPlayer player : server.getPlayerList().getPlayers()) {
+            save(player);
+        }
+        
+        for (UUID uuid : FAILED) {
+            FAILED.remove(uuid);
+            writer.execute(() -> drain(uuid));
+        }
+    }
+    
+    /**
+     * Waits for pending writes and closes the store once the server has stopped
+     * 
+     * @param event The ServerStoppedEvent
+     */
+    @SubscribeEvent
+    public static void onServerStopped(ServerStoppedEvent event) {
+        if (writer == null) {
+            return;
+        }
+        
+        // Players were saved while the server stopped; retry earlier failures once more
+        for (UUID uuid : FAILED) {
+            FAILED.remove(uuid);
+            writer.execute(() -> drain(uuid));
+        }
+        
+        writer.shutdown();
+        try {
+            if (!writer.awaitTermination(SHUTDOWN_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+                MagicOriginsMod.LOGGER.error("Timed out writing {} player data entries", PENDING.size());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        
+        if (!PENDING.isEmpty()) {
+            MagicOriginsMod.LOGGER.error("{} player data entries could not be written", PENDING.size());
+        }
+        PENDING.clear();
+        FAILED.clear();
+        writer = null;
+        directory = null;
+    }
+    
+    /**
+     * Queues a snapshot, scheduling a write unless one is already scheduled for the player
+     */
+    private static void enqueue(UUID uuid, CompoundTag snapshot) {
+        if (PENDING.put(uuid, snapshot) == null && !FAILED.contains(uuid)) {
+            writer.execute(() -> drain(uuid));
+        }
+    }
+    
+    /**
+     * Writes a player's pending snapshots until none is left (writer thread)
+     */
+    private static void drain(UUID uuid) {
+        CompoundTag snapshot;
+        while ((snapshot = PENDING.get(uuid)) != null) {
+            long start = System.nanoTime();
+            ModJfrEvents.PlayerData event = ModJfrEvents.beginPlayerData("write");
+            try {
+                writeAtomically(directory.resolve(uuid + ".dat"), snapshot);
+            } catch (IOException e) {
+                MagicOriginsMod.LOGGER.error("Failed to write player data for {}: {}", uuid, e.getMessage());
+                ModMetrics.PLAYER_DATA_WRITE_FAILURES.increment();
+                FAILED.add(uuid);
+                ModJfrEvents.finish(event, uuid, null, "failed");
+                return;
+            }
+            ModMetrics.PLAYER_DATA_WRITE_LATENCY.recordSince(start);
+            ModJfrEvents.finish(event, uuid, null, "written");
+            
+            // A newer snapshot queued during the write keeps the entry and is written next
+            if (PENDING.remove(uuid, snapshot)) {
+                return;
+            }
+        }
+    }
+    
+    /**
+     * Writes and syncs a temporary file, then renames it over the target
+     */
+    private static void writeAtomically(Path file, CompoundTag tag) throws IOException {
+        Path temp = file.resolveSibling(file.getFileName() + ".tmp");
+        try (FileOutputStream out = new FileOutputStream(temp.toFile())) {
+            NbtIo.writeCompressed(tag, out);
+            out.getFD().sync();
+        }
+        Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+}
\ No newline at end of file
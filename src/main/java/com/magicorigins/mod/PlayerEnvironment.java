@@ -0,0 +1,231 @@
+package com.magicorigins.mod;
+
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.Holder;
+import net.minecraft.resources.ResourceKey;
+import net.minecraft.server.level.ServerPlayer;
+import net.minecraft.tags.BiomeTags;
+import net.minecraft.tags.FluidTags;
+import net.minecraft.world.level.Level;
+import net.minecraft.world.level.biome.Biome;
+import net.minecraftforge.event.entity.player.PlayerEvent;
+import net.minecraftforge.event.server.ServerStoppedEvent;
+import net.minecraftforge.eventbus.api.SubscribeEvent;
+import net.minecraftforge.fml.common.Mod;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Cached snapshot of the world facts around a player that origin mechanics depend on
+ * A snapshot is recomputed only when the player's block position, dimension or the level's
+ * sky and weather state changed, or when it is older than {@link #MAX_AGE_TICKS} so that
+ * nearby block changes (torches, flowing lava) are picked up.
+ * Must only be used from the server thread
+ * 
+ * @author MagicOrigins Mod Team
+ * @version 1.0.0
+ */
+@Mod.EventBusSubscriber(modid = MagicOriginsMod.MOD_ID)
+public final class PlayerEnvironment {
+    
+    /**
+     * Maximum age of a snapshot in game ticks before it is recomputed at the same position
+     */
+    public static final int MAX_AGE_TICKS = 40;
+    
+    /**
+     * Horizontal distance in blocks searched for lava
+     */
+    private static final int LAVA_RADIUS = 3;
+    
+    /**
+     * Vertical distance in blocks searched for lava
+     */
+    private static final int LAVA_HEIGHT = 2;
+    
+    /**
+     * Snapshots of online players, reused in place on recompute
+     */
+    private static final Map<UUID, PlayerEnvironment> SNAPSHOTS = new HashMap<>();
+    
+    private ResourceKey<Level> dimension;
+    private long blockPos;
+    private int worldStamp;
+    private long computedAt;
+    
+    private int lightLevel;
+    private boolean inWater;
+    private boolean underwater;
+    private boolean inRain;
+    private float biomeTemperature;
+    private boolean forest;
+    private boolean nearLava;
+    
+    private PlayerEnvironment() {
+    }
+    
+    /**
+     * Gets the environment snapshot of a player, recomputing it if it is stale
+     * 
+     * @param player The server player
+     * @return The player's current snapshot; valid until the player moves or the world state changes
+     */
+    public static PlayerEnvironment get(ServerPlayer player) {
+        PlayerEnvironment snapshot = SNAPSHOTS.computeIfAbsent(player.getUUID(), key -> new PlayerEnvironment());
+        Level level = player.level();
+        BlockPos pos = player.blockPosition();
+        long gameTime = level.getGameTime();
+        int stamp = worldStamp(level);
+        
+        if (snapshot.dimension != level.dimension() || snapshot.blockPos != pos.asLong()
+            || snapshot.worldStamp != stamp || gameTime - snapshot.computedAt >= MAX_AGE_TICKS) {
+            snapshot.compute(player, level, pos, stamp, gameTime);
+        } else {
+            // Fluid state belongs to the entity and is already computed every tick
+            snapshot.inWater = player.isInWater();
+            snapshot.underwater = player.isEyeInFluid(FluidTags.WATER);
+        }
+        return snapshot;
+    }
+    
+    /**
+     * Drops a player's snapshot on logout
+     * 
+     * @param event The PlayerLoggedOutEvent
+     */
+    @SubscribeEvent
+    public static void onPlayerLogout(PlayerEvent.PlayerLoggedOutEvent event) {
+        SNAPSHOTS.remove(event.getEntity().getUUID());
+    }
+    
+    /**
+     * Clears all snapshots once the server has stopped
+     * 
+     * @param event The ServerStoppedEvent
+     */
+    @SubscribeEvent
+    public static void onServerStopped(ServerStoppedEvent event) {
+        SNAPSHOTS.clear();
+    }
+    
+    /**
+     * Combines the level state that affects light and weather into one value
+     */
+    private static int worldStamp(Level level) {
+        return level.getSkyDarken() | (level.isRaining() ? 1 << 4 : 0) | (level.isThundering() ? 1 << 5 : 0);
+    }
+    
+    private void compute(ServerPlayer player, Level level, BlockPos pos, int stamp, long gameTime) {
+        dimension = level.dimension();
+        blockPos = pos.asLong();
+        worldStamp = stamp;
+        computedAt = gameTime;
+        
+        lightLevel = level.getMaxLocalRawBrightness(pos);
+        inWater = player.isInWater();
+        underwater = player.isEyeInFluid(FluidTags.WATER);
+        inRain = level.isRainingAt(pos) || level.isRainingAt(pos.above());
+        
+        Holder<Biome> biome = level.getBiome(pos);
+        biomeTemperature = biome.value().getBaseTemperature();
+        forest = biome.is(BiomeTags.IS_FOREST);
+        
+        nearLava = false;
+        BlockPos.MutableBlockPos cursor = new BlockPos.MutableBlockPos();
+        search:
+        for (int dx = -LAVA_RADIUS; dx <= LAVA_RADIUS; dx++) {
+            for (int dz = -LAVA_RADIUS; dz <= LAVA_RADIUS; dz++) {
+                for (int dy = -LAVA_HEIGHT; dy <= LAVA_HEIGHT; dy++) {
+                    cursor.setWithOffset(pos, dx, dy, dz);
+                    if (level.getFluidState(cursor).is(FluidTags.LAVA)) {
+                        nearLava = true;
+                        break search;
+                    }
+                }
+            }
+        }
+    }
+    
+    /**
+     * Gets the block position the snapshot was taken at
+     * 
+     * @return Packed block position
+     */
+    public long getBlockPos() {
+        return blockPos;
+    }
+    
+    /**
+     * Gets the combined block and sky light level at the player's position
+     * 
+     * @return Light level (0-15)
+     */
+    public int getLightLevel() {
+        return lightLevel;
+    }
+    
+    /**
+     * Checks if the player is in water
+     * 
+     * @return true if in water
+     */
+    public boolean isInWater() {
+        return inWater;
+    }
+    
+    /**
+     * Checks if the player's eyes are in water
+     * 
+     * @return true if underwater
+     */
+    public boolean isUnderwater() {
+        return underwater;
+    }
+    
+    /**
+     * Checks if it is raining on the player
+     * 
+     * @return true if in rain
+     */
+    public boolean isInRain() {
+        return inRain;
+    }
+    
+    /**
+     * Checks if the player is in water or rain
+     * 
+     * @return true if in water or rain
+     */
+    public boolean isInWaterOrRain() {
+        return inWater || inRain;
+    }
+    
+    /**
+     * Gets the base temperature of the player's biome
+     * 
+     * @return Biome temperature (below 0.15 is snowy)
+     */
+    public float getBiomeTemperature() {
+        return biomeTemperature;
+    }
+    
+    /**
+     * Checks if the player is in a forest biome
+     * 
+     * @return true if in a forest
+     */
+    public boolean isForest() {
+        return forest;
+    }
+    
+    /**
+     * Checks if there is lava within a few blocks of the player
+     * 
+     * @return true if lava is nearby
+     */
+    public boolean isNearLava() {
+        return nearLava;
+    }
+}
\ No newline at end of file
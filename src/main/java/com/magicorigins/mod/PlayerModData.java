@@ -0,0 +1,268 @@
+package com.magicorigins.mod;
+
+import java.util.Arrays;
+
+/**
+ * Typed per-player mod data held by the player data capability
+ * Values are read and mutated directly; any change marks the data dirty so it is
+ * written to the player data store at the next save
+ * 
+ * @author MagicOrigins Mod Team
+ * @version 1.0.0
+ */
+public class PlayerModData {
+    
+    /**
+     * Maximum number of abilities a player can unlock
+     */
+    public static final int MAX_UNLOCKED_ABILITIES = 3;
+    
+    /**
+     * Number of server ticks in one minute of playtime
+     */
+    public static final int TICKS_PER_MINUTE = 1200;
+    
+    /**
+     * Total playtime in minutes
+     */
+    private long playtime;
+    
+    /**
+     * Playtime ticks not yet counted as a full minute
+     */
+    private int playtimeRemainderTicks;
+    
+    /**
+     * Ability unlock progress as a percentage (0.0 to 100.0)
+     */
+    private float abilityProgress;
+    
+    /**
+     * Number of unlocked abilities (0-3)
+     */
+    private int unlockedAbilities;
+    
+    /**
+     * Progression counters indexed by trigger ordinal
+     */
+    private final long[] progressCounters = new long[ProgressionTrigger.COUNT];
+    
+    /**
+     * Whether the data changed since it was last serialized
+     */
+    private boolean dirty;
+    
+    /**
+     * Whether the data was loaded from the player data store
+     */
+    private boolean loaded;
+    
+    /**
+     * Gets the total playtime in minutes
+     * 
+     * @return Playtime in minutes
+     */
+    public long getPlaytime() {
+        return playtime;
+    }
+    
+    /**
+     * Sets the total playtime
+     * 
+     * @param playtimeMinutes Playtime in minutes
+     */
+    public void setPlaytime(long playtimeMinutes) {
+        if (this.playtime != playtimeMinutes) {
+            this.playtime = playtimeMinutes;
+            this.dirty = true;
+        }
+    }
+    
+    /**
+     * Gets the playtime ticks not yet counted as a full minute
+     * 
+     * @return Remaining ticks (0 to 1199)
+     */
+    public int getPlaytimeRemainderTicks() {
+        return playtimeRemainderTicks;
+    }
+    
+    /**
+     * Sets the playtime ticks not yet counted as a full minute
+     * 
+     * @param ticks Remaining ticks, wrapped into the current minute
+     */
+    public void setPlaytimeRemainderTicks(int ticks) {
+        int wrapped = Math.floorMod(ticks, TICKS_PER_MINUTE);
+        if (this.playtimeRemainderTicks != wrapped) {
+            this.playtimeRemainderTicks = wrapped;
+            this.dirty = true;
+        }
+    }
+    
+    /**
+     * Adds played ticks, carrying whole minutes into the total playtime
+     * 
+     * @param ticks Number of ticks played
+     * @return Number of whole minutes added to the total playtime
+     */
+    public long addPlaytimeTicks(long ticks) {
+        long total = playtimeRemainderTicks + ticks;
+        long minutes = total / TICKS_PER_MINUTE;
+        this.playtime += minutes;
+        this.playtimeRemainderTicks = (int) (total % TICKS_PER_MINUTE);
+        this.dirty = true;
+        return minutes;
+    }
+    
+    /**
+     * Gets the ability unlock progress percentage
+     * 
+     * @return Progress as a percentage (0.0 to 100.0)
+     */
+    public float getAbilityProgress() {
+        return abilityProgress;
+    }
+    
+    /**
+     * Sets the ability unlock progress
+     * 
+     * @param progress Progress percentage (0.0 to 100.0)
+     */
+    public void setAbilityProgress(float progress) {
+        if (this.abilityProgress != progress) {
+            this.abilityProgress = progress;
+            this.dirty = true;
+        }
+    }
+    
+    /**
+     * Gets the number of unlocked abilities
+     * 
+     * @return Number of unlocked abilities (0-3)
+     */
+    public int getUnlockedAbilities() {
+        return unlockedAbilities;
+    }
+    
+    /**
+     * Sets the number of unlocked abilities, clamped to 0-3
+     * 
+     * @param count Number of unlocked abilities
+     */
+    public void setUnlockedAbilities(int count) {
+        int clamped = Math.max(0, Math.min(MAX_UNLOCKED_ABILITIES, count));
+        if (this.unlockedAbilities != clamped) {
+            this.unlockedAbilities = clamped;
+            this.dirty = true;
+        }
+    }
+    
+    /**
+     * Gets the progression counter for a trigger
+     * 
+     * @param trigger The progression trigger
+     * @return The counter value
+     */
+    public long getProgressCounter(ProgressionTrigger trigger) {
+        return progressCounters[trigger.ordinal()];
+    }
+    
+    /**
+     * Adds to the progression counter for a trigger
+     * 
+     * @param trigger The progression trigger
+     * @param amount Amount to add
+     * @return The new counter value
+     */
+    public long addProgressCounter(ProgressionTrigger trigger, long amount) {
+        this.dirty = true;
+        return progressCounters[trigger.ordinal()] += amount;
+    }
+    
+    /**
+     * Gets a copy of all progression counters, indexed by trigger ordinal
+     * 
+     * @return Copy of the counters
+     */
+    public long[] getProgressCounters() {
+        return progressCounters.clone();
+    }
+    
+    /**
+     * Replaces all progression counters; missing trailing values are reset to zero
+     * 
+     * @param counters Counters indexed by trigger ordinal
+     */
+    public void setProgressCounters(long[] counters) {
+        Arrays.fill(progressCounters, 0L);
+        System.arraycopy(counters, 0, progressCounters, 0, Math.min(counters.length, progressCounters.length));
+        this.dirty = true;
+    }
+    
+    /**
+     * Checks if the data changed since it was last serialized
+     * 
+     * @return true if the data must be written at the next save
+     */
+    public boolean isDirty() {
+        return dirty;
+    }
+    
+    /**
+     * Marks the data as changed so it is written at the next save
+     */
+    public void markDirty() {
+        this.dirty = true;
+    }
+    
+    /**
+     * Marks the data as written
+     */
+    public void clearDirty() {
+        this.dirty = false;
+    }
+    
+    /**
+     * Checks if the data was loaded from the player data store
+     * 
+     * @return true once the stored data has been read
+     */
+    public boolean isLoaded() {
+        return loaded;
+    }
+    
+    /**
+     * Marks the data as loaded from the player data store
+     */
+    public void markLoaded() {
+        this.loaded = true;
+    }
+    
+    /**
+     * Copies all values from another instance, for example when the player entity is cloned
+     * 
+     * @param other The data to copy from
+     */
+    public void copyFrom(PlayerModData other) {
+        this.playtime = other.playtime;
+        this.playtimeRemainderTicks = other.playtimeRemainderTicks;
+        this.abilityProgress = other.abilityProgress;
+        this.unlockedAbilities = other.unlockedAbilities;
+        System.arraycopy(other.progressCounters, 0, this.progressCounters, 0, ProgressionTrigger.COUNT);
+        this.loaded = other.loaded;
+        this.dirty = true;
+    }
+    
+    /**
+     * Resets all values to their defaults
+     */
+    public void reset() {
+        this.playtime = 0L;
+        this.playtimeRemainderTicks = 0;
+        this.abilityProgress = 0.0f;
+        this.unlockedAbilities = 0;
+        Arrays.fill(progressCounters, 0L);
+        this.dirty = true;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,78 @@
+package com.magicorigins.mod;
+
+import net.minecraft.core.Direction;
+import net.minecraft.nbt.CompoundTag;
+import net.minecraft.resources.ResourceLocation;
+import net.minecraftforge.common.capabilities.Capability;
+import net.minecraftforge.common.capabilities.CapabilityManager;
+import net.minecraftforge.common.capabilities.CapabilityToken;
+import net.minecraftforge.common.capabilities.ICapabilitySerializable;
+import net.minecraftforge.common.capabilities.RegisterCapabilitiesEvent;
+import net.minecraftforge.common.util.LazyOptional;
+
+/**
+ * Capability provider attaching {@link PlayerModData} to server players
+ * The data itself is persisted by the {@link PlayerDataStore}; the capability no longer
+ * writes into the vanilla player file and only reads data saved there by older versions
+ * 
+ * @author MagicOrigins Mod Team
+ * @version 1.0.0
+ */
+public class PlayerModDataProvider implements ICapabilitySerializable<CompoundTag> {
+    
+    /**
+     * Capability handle for the per-player mod data
+     */
+    public static final Capability<PlayerModData> PLAYER_DATA = CapabilityManager.get(new CapabilityToken<>() {});
+    
+    /**
+     * Key under which the capability is attached to players
+     */
+    public static final ResourceLocation ID = MagicOriginsMod.location("player_data");
+    
+    /**
+     * The data instance owned by this provider
+     */
+    private final PlayerModData data = new PlayerModData();
+    
+    /**
+     * Lazy handle returned to capability queries
+     */
+    private final LazyOptional<PlayerModData> optional = LazyOptional.of(() -> data);
+    
+    /**
+     * Registers the capability type (mod event bus)
+     * 
+     * @param event The RegisterCapabilitiesEvent
+     */
+    public static void registerCapability(RegisterCapabilitiesEvent event) {
+        event.register(PlayerModData.class);
+    }
+    
+    @Override
+    public <T> LazyOptional<T> getCapability(Capability<T> capability, Direction side) {
+        return PLAYER_DATA.orEmpty(capability, optional);
+    }
+    
+    @Override
+    public CompoundTag serializeNBT() {
+        return new CompoundTag();
+    }
+    
+    @Override
+    public void deserializeNBT(CompoundTag tag) {
+        // Data saved in the player file by older versions seeds the instance; it is
+        // kept and moved to the store unless the store already has an entry
+        if (!tag.isEmpty()) {
+            PlayerDataHandler.readModData(data, tag);
+            data.markDirty();
+        }
+    }
+    
+    /**
+     * Invalidates the capability handle when the player entity is removed
+     */
+    public void invalidate() {
+        optional.invalidate();
+    }
+}
\ No newline at end of file
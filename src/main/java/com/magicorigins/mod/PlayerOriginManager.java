@@ -1,12 +1,18 @@
 package com.magicorigins.mod;
 
-import java.util.HashMap;
-import java.util.Map;
+import net.minecraft.Util;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
 
 /**
  * Manages player-to-origin mappings based on usernames
- * This class stores the predefined assignments from UserAbilities.txt
+ * Mappings are loaded from the external mapping file and can be hot-reloaded; configured usernames are
+ * resolved to UUIDs when loading so logins look players up by UUID
  * 
  * @author MagicOrigins Mod Team
  * @version 1.0.0
@@ -14,53 +20,131 @@ import java.util.UUID;
 public class PlayerOriginManager {
     
     /**
-     * Map storing username to origin type mappings
-     * Key: Minecraft username (case-sensitive)
-     * Value: Origin type identifier (lowercase)
+     * Immutable snapshot of the player to origin mappings
+     * Replaced as a whole on reload so readers never see a half-built map
+     */
+    private static volatile OriginMappings mappings = OriginMappings.EMPTY;
+    
+    /**
+     * Reload currently in progress, or null if none is running
+     */
+    private static CompletableFuture<Integer> pendingReload;
+    
+    /**
+     * Maximum number of players held in the UUID origin cache
      */
-    private static final Map<String, String> PLAYER_ORIGIN_MAP = new HashMap<>();
+    private static final int MAX_CACHED_PLAYERS = 4096;
     
     /**
-     * Map storing player UUID to origin type for runtime lookup
+     * Minutes without access after which a cached entry is evicted
+     */
+    private static final long CACHE_IDLE_MINUTES = 30L;
+    
+    /**
+     * Cache storing player UUID to origin type for runtime lookup
      * Key: Player UUID
-     * Value: Origin type identifier (lowercase)
+     * Value: Interned origin
      */
-    private static final Map<UUID, String> UUID_ORIGIN_CACHE = new HashMap<>();
+    private static final OriginCache UUID_ORIGIN_CACHE =
+        new OriginCache(MAX_CACHED_PLAYERS, CACHE_IDLE_MINUTES, TimeUnit.MINUTES);
     
     /**
-     * Initialize the player origin mappings from the configuration
-     * This method populates the username-to-origin mapping based on UserAbilities.txt
+     * Initialize the player origin mappings from the mapping file
+     * Falls back to an empty mapping table if the file cannot be read
      */
     public static void initialize() {
         MagicOriginsMod.LOGGER.info("Initializing player origin mappings...");
         
-        // Player mappings based on UserAbilities.txt
-        PLAYER_ORIGIN_MAP.put("Fishy01003", "water");
-        PLAYER_ORIGIN_MAP.put("52bm", "nature");
-        PLAYER_ORIGIN_MAP.put("Green_boii", "swamp");
-        PLAYER_ORIGIN_MAP.put("Balo01003", "stone");
-        PLAYER_ORIGIN_MAP.put("Temsync", "echo");
-        PLAYER_ORIGIN_MAP.put("Polocol", "fire");
-        PLAYER_ORIGIN_MAP.put("Snowfester", "frost");
-        PLAYER_ORIGIN_MAP.put("Fkoe", "amphibian");
-        PLAYER_ORIGIN_MAP.put("_Kitax", "shadow");
+        try {
+            mappings = OriginMappingLoader.load(OriginMappingLoader.getMappingFile(),
+                OriginMappingLoader.getUserCacheFile());
+        } catch (IOException | RuntimeException e) {
+            // A malformed mapping file must not fail mod loading; the server starts without mappings
+            MagicOriginsMod.LOGGER.error("Failed to load origin mappings: {}", e.getMessage());
+        }
         
-        MagicOriginsMod.LOGGER.info("Loaded {} player origin mappings", PLAYER_ORIGIN_MAP.size());
+        OriginMappings loaded = mappings;
+        MagicOriginsMod.LOGGER.info("Loaded {} player origin mappings ({} resolved to UUIDs)", 
+            loaded.size(), loaded.resolvedCount());
         
         // Log all mappings for debugging
-        PLAYER_ORIGIN_MAP.forEach((username, origin) -> 
-            MagicOriginsMod.LOGGER.debug("Player mapping: {} -> {}", username, origin)
-        );
+        for (String username : loaded.usernames()) {
+            MagicOriginsMod.LOGGER.debug("Player mapping: {} -> {}", username, loaded.getByUsername(username));
+        }
+    }
+    
+    /**
+     * Reloads the mapping file on a background thread and swaps in the new table atomically
+     * Concurrent reload requests share the reload already in progress
+     * The previous mappings stay active if the file cannot be read
+     * 
+     * @return Future completing with the number of loaded mappings
+     */
+    public static synchronized CompletableFuture<Integer> reloadAsync() {
+        if (pendingReload != null && !pendingReload.isDone()) {
+            return pendingReload;
+        }
+        
+        pendingReload = CompletableFuture.supplyAsync(() -> {
+            long start = System.nanoTime();
+            OriginMappings reloaded;
+            try {
+                reloaded = OriginMappingLoader.load(OriginMappingLoader.getMappingFile(),
+                    OriginMappingLoader.getUserCacheFile());
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            } catch (RuntimeException e) {
+                throw new UncheckedIOException(new IOException("Malformed mapping file: " + e.getMessage(), e));
+            }
+            
+            replaceMappings(reloaded);
+            
+            MagicOriginsMod.LOGGER.info("Reloaded {} player origin mappings ({} resolved to UUIDs) in {} ms", 
+                reloaded.size(), reloaded.resolvedCount(), (System.nanoTime() - start) / 1_000_000L);
+            return reloaded.size();
+        }, Util.backgroundExecutor());
+        
+        return pendingReload;
+    }
+    
+    /**
+     * Atomically replaces all mappings with a new snapshot
+     * 
+     * @param newMappings The new mappings
+     */
+    public static void replaceMappings(OriginMappings newMappings) {
+        mappings = newMappings;
+    }
+    
+    /**
+     * Gets the current mappings snapshot
+     * 
+     * @return The active mappings
+     */
+    public static OriginMappings getMappings() {
+        return mappings;
+    }
+    
+    /**
+     * Gets the origin type for a player, by UUID and falling back to usernames without a known UUID
+     * Allocation-free; used on login
+     * 
+     * @param playerUUID The player's UUID
+     * @param username The player's current username, or null if unknown
+     * @return The mapped origin, or null if no mapping exists
+     */
+    public static Origin getOriginForPlayer(UUID playerUUID, String username) {
+        return mappings.get(playerUUID, username);
     }
     
     /**
      * Gets the origin type for a player based on their username
      * 
      * @param username The player's Minecraft username
-     * @return The origin type identifier, or null if no mapping exists
+     * @return The mapped origin, or null if no mapping exists
      */
-    public static String getOriginForPlayer(String username) {
-        String origin = PLAYER_ORIGIN_MAP.get(username);
+    public static Origin getOriginForPlayer(String username) {
+        Origin origin = mappings.getByUsername(username);
         MagicOriginsMod.LOGGER.debug("Origin lookup for {}: {}", username, origin);
         return origin;
     }
@@ -71,8 +155,10 @@ public class PlayerOriginManager {
      * @param playerUUID The player's UUID
      * @param origin The origin type to cache
      */
-    public static void cachePlayerOrigin(UUID playerUUID, String origin) {
+    public static void cachePlayerOrigin(UUID playerUUID, Origin origin) {
+        ModJfrEvents.OriginCacheAccess event = ModJfrEvents.beginOriginCache("put");
         UUID_ORIGIN_CACHE.put(playerUUID, origin);
+        ModJfrEvents.finish(event, playerUUID, origin, "stored");
         MagicOriginsMod.LOGGER.debug("Cached origin for UUID {}: {}", playerUUID, origin);
     }
     
@@ -80,10 +166,13 @@ public class PlayerOriginManager {
      * Gets a cached origin for a player by UUID
      * 
      * @param playerUUID The player's UUID
-     * @return The cached origin type, or null if not cached
+     * @return The cached origin, or null if not cached
      */
-    public static String getCachedOrigin(UUID playerUUID) {
-        return UUID_ORIGIN_CACHE.get(playerUUID);
+    public static Origin getCachedOrigin(UUID playerUUID) {
+        ModJfrEvents.OriginCacheAccess event = ModJfrEvents.beginOriginCache("get");
+        Origin origin = UUID_ORIGIN_CACHE.get(playerUUID);
+        ModJfrEvents.finish(event, playerUUID, origin, origin != null ? "hit" : "miss");
+        return origin;
     }
     
     /**
@@ -93,7 +182,7 @@ public class PlayerOriginManager {
      * @return true if the player has a mapping, false otherwise
      */
     public static boolean hasOriginMapping(String username) {
-        return PLAYER_ORIGIN_MAP.containsKey(username);
+        return mappings.getByUsername(username) != null;
     }
     
     /**
@@ -102,7 +191,48 @@ public class PlayerOriginManager {
      * @return The number of player-origin mappings
      */
     public static int getMappingCount() {
-        return PLAYER_ORIGIN_MAP.size();
+        return mappings.size();
+    }
+    
+    /**
+     * Removes a single player's cached origin, for example after their origin was reset
+     * 
+     * @param playerUUID The player's UUID
+     */
+    public static void invalidateCachedOrigin(UUID playerUUID) {
+        ModJfrEvents.OriginCacheAccess event = ModJfrEvents.beginOriginCache("invalidate");
+        UUID_ORIGIN_CACHE.invalidate(playerUUID);
+        ModJfrEvents.finish(event, playerUUID, null, "removed");
+        MagicOriginsMod.LOGGER.debug("Invalidated cached origin for UUID {}", playerUUID);
+    }
+    
+    /**
+     * Evicts a player's cached origin when they log out
+     * 
+     * @param playerUUID The player's UUID
+     */
+    public static void evictCachedOrigin(UUID playerUUID) {
+        ModJfrEvents.OriginCacheAccess event = ModJfrEvents.beginOriginCache("evict");
+        UUID_ORIGIN_CACHE.evict(playerUUID);
+        ModJfrEvents.finish(event, playerUUID, null, "removed");
+    }
+    
+    /**
+     * Evicts cached origins that have not been accessed recently
+     * 
+     * @return Number of evicted entries
+     */
+    public static int evictIdleCachedOrigins() {
+        return UUID_ORIGIN_CACHE.evictIdle();
+    }
+    
+    /**
+     * Gets the hit, miss and eviction counters of the UUID cache
+     * 
+     * @return Snapshot of the cache statistics
+     */
+    public static OriginCache.Stats getCacheStats() {
+        return UUID_ORIGIN_CACHE.getStats();
     }
     
     /**
@@ -116,9 +246,9 @@ public class PlayerOriginManager {
     /**
      * Gets all configured usernames
      * 
-     * @return Set of all configured usernames
+     * @return Unmodifiable set of all configured usernames
      */
-    public static java.util.Set<String> getConfiguredUsernames() {
-        return PLAYER_ORIGIN_MAP.keySet();
+    public static Set<String> getConfiguredUsernames() {
+        return mappings.usernames();
     }
 }
\ No newline at end of file
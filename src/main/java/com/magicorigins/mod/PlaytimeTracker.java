@@ -0,0 +1,208 @@
+package com.magicorigins.mod;
+
+import it.unimi.dsi.fastutil.ints.IntArrayList;
+import it.unimi.dsi.fastutil.objects.Object2IntOpenHashMap;
+import net.minecraft.server.MinecraftServer;
+import net.minecraft.server.level.ServerPlayer;
+import net.minecraftforge.event.TickEvent;
+import net.minecraftforge.event.entity.player.PlayerEvent;
+import net.minecraftforge.event.server.ServerStoppingEvent;
+import net.minecraftforge.eventbus.api.SubscribeEvent;
+import net.minecraftforge.fml.common.Mod;
+
+import java.util.Arrays;
+import java.util.UUID;
+
+/**
+ * Tracks player playtime without per-tick work per player
+ * Each online player owns a slot holding the server tick of its last flush; elapsed ticks
+ * are added to the player's data at the configured flush interval, on logout and on server stop.
+ * Each periodic flush also queues the changed data for writing, so at most one interval of playtime
+ * is lost if the server crashes
+ * 
+ * @author MagicOrigins Mod Team
+ * @version 1.0.0
+ */
+@Mod.EventBusSubscriber(modid = MagicOriginsMod.MOD_ID)
+public class PlaytimeTracker {
+    
+    /**
+     * Initial number of player slots; grown on demand
+     */
+    private static final int INITIAL_CAPACITY = 64;
+    
+    /**
+     * Slot index of each online player
+     */
+    private static final Object2IntOpenHashMap<UUID> SLOTS = new Object2IntOpenHashMap<>();
+    
+    /**
+     * Released slots available for reuse
+     */
+    private static final IntArrayList FREE_SLOTS = new IntArrayList();
+    
+    /**
+     * Player UUID per slot, null for free slots
+     */
+    private static UUID[] slotPlayers = new UUID[INITIAL_CAPACITY];
+    
+    /**
+     * Server tick at which each slot was last flushed
+     */
+    private static long[] lastFlushTick = new long[INITIAL_CAPACITY];
+    
+    /**
+     * Number of slots ever handed out
+     */
+    private static int slotCount = 0;
+    
+    /**
+     * Ticks elapsed since the last periodic flush
+     */
+    private static int ticksSinceFlush = 0;
+    
+    static {
+        SLOTS.defaultReturnValue(-1);
+    }
+    
+    /**
+     * Flushes and stops tracking a player when they log out
+     * 
+     * @param event The PlayerLoggedOutEvent
+     */
+    @SubscribeEvent
+    public static void onPlayerLogout(PlayerEvent.PlayerLoggedOutEvent event) {
+        if (!(event.getEntity() instanceof ServerPlayer serverPlayer)) {
+            return;
+        }
+        
+        stopTracking(serverPlayer);
+    }
+    
+    /**
+     * Flushes all players at the configured interval
+     * 
+     * @param event The ServerTickEvent
+     */
+    @SubscribeEvent
+    public static void onServerTick(TickEvent.ServerTickEvent event) {
+        if (event.phase != TickEvent.Phase.END
+                || ++ticksSinceFlush < MagicOriginsConfig.playtimeFlushIntervalTicks) {
+            return;
+        }
+        ticksSinceFlush = 0;
+        
+        flushAll(event.getServer());
+    }
+    
+    /**
+     * Flushes all players before the server saves them on shutdown
+     * 
+     * @param event The ServerStoppingEvent
+     */
+    @SubscribeEvent
+    public static void onServerStopping(ServerStoppingEvent event) {
+        flushAll(event.getServer());
+        
+        SLOTS.clear();
+        FREE_SLOTS.clear();
+        Arrays.fill(slotPlayers, null);
+        slotCount = 0;
+        ticksSinceFlush = 0;
+    }
+    
+    /**
+     * Assigns a slot to a player and starts counting from the current tick
+     * Called by the {@link LoginPipeline}
+     * 
+     * @param player The server player
+     */
+    static void startTracking(ServerPlayer player) {
+        UUID uuid = player.getUUID();
+        long now = player.server.getTickCount();
+        
+        int slot = SLOTS.getInt(uuid);
+        if (slot < 0) {
+            slot = FREE_SLOTS.isEmpty() ? slotCount++ : FREE_SLOTS.popInt();
+            ensureCapacity(slot + 1);
+            SLOTS.put(uuid, slot);
+            slotPlayers[slot] = uuid;
+        }
+        lastFlushTick[slot] = now;
+    }
+    
+    /**
+     * Flushes a player's pending playtime and releases their slot
+     * 
+     * @param player The server player
+     */
+    private static void stopTracking(ServerPlayer player) {
+        int slot = SLOTS.removeInt(player.getUUID());
+        if (slot < 0) {
+            return;
+        }
+        
+        flush(player, slot, player.server.getTickCount());
+        slotPlayers[slot] = null;
+        FREE_SLOTS.push(slot);
+    }
+    
+    /**
+     * Adds the elapsed ticks of every tracked player to their data and queues the data for writing
+     * 
+     * @param server The running server
+     */
+    private static void flushAll(MinecraftServer server) {
+        long now = server.getTickCount();
+        
+        for (int slot = 0; slot < slotCount; slot++) {
+            UUID uuid = slotPlayers[slot];
+            if (uuid == null) {
+                continue;
+            }
+            
+            ServerPlayer player = server.getPlayerList().getPlayer(uuid);
+            if (player != null) {
+                flush(player, slot, now);
+                PlayerDataStore.save(player);
+            }
+        }
+    }
+    
+    /**
+     * Adds the ticks elapsed since the slot's last flush to the player's data
+     * 
+     * @param player The server player
+     * @param slot The player's slot
+     * @param now The current server tick
+     */
+    private static void flush(ServerPlayer player, int slot, long now) {
+        long elapsed = now - lastFlushTick[slot];
+        lastFlushTick[slot] = now;
+        
+        if (elapsed > 0) {
+            long minutes = PlayerDataHandler.getData(player).addPlaytimeTicks(elapsed);
+            if (minutes > 0) {
+                OriginSyncManager.markDirty(player);
+            }
+            if (ModFeature.ABILITY_PROGRESSION.isEnabled()) {
+                AbilityProgressionEngine.record(player, ProgressionTrigger.PLAYTIME_MINUTES, minutes);
+            }
+        }
+    }
+    
+    /**
+     * Grows the slot arrays to hold at least the given number of slots
+     * 
+     * @param capacity Required number of slots
+     */
+    private static void ensureCapacity(int capacity) {
+        if (capacity <= slotPlayers.length) {
+            return;
+        }
+        
+        int newLength = Math.max(capacity, slotPlayers.length * 2);
+        slotPlayers = Arrays.copyOf(slotPlayers, newLength);
+        lastFlushTick = Arrays.copyOf(lastFlushTick, newLength);
+    }
+}
\ No newline at end of file
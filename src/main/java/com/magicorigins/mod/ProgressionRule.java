@@ -0,0 +1,34 @@
+package com.magicorigins.mod;
+
+/**
+ * A single unlock rule declared by an origin
+ * A rule contributes up to its weight in progress percentage as its trigger counter approaches the goal
+ * 
+ * @param trigger The event type that advances this rule
+ * @param goal Counter value at which the rule is complete
+ * @param weight Progress percentage contributed when complete
+ * 
+ * @author MagicOrigins Mod Team
+ * @version 1.0.0
+ */
+public record ProgressionRule(ProgressionTrigger trigger, long goal, float weight) {
+    
+    public ProgressionRule {
+        if (goal <= 0) {
+            throw new IllegalArgumentException("goal must be positive: " + goal);
+        }
+    }
+    
+    /**
+     * Gets the progress contributed by this rule for a counter value
+     * 
+     * @param counter The player's counter for this rule's trigger
+     * @return Contributed progress percentage (0 to weight)
+     */
+    public float contribution(long counter) {
+        if (counter >= goal) {
+            return weight;
+        }
+        return counter <= 0 ? 0.0f : weight * ((float) counter / goal);
+    }
+}
\ No newline at end of file
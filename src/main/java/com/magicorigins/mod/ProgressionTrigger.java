@@ -0,0 +1,42 @@
+package com.magicorigins.mod;
+
+/**
+ * Game events that can advance ability progression
+ * The ordinal is used as an index into per-player counter arrays stored in NBT,
+ * so new triggers must only ever be appended
+ * 
+ * @author MagicOrigins Mod Team
+ * @version 1.0.0
+ */
+public enum ProgressionTrigger {
+    
+    /**
+     * Minutes of playtime, reported by the playtime tracker
+     */
+    PLAYTIME_MINUTES,
+    
+    /**
+     * Blocks broken by the player
+     */
+    BLOCKS_MINED,
+    
+    /**
+     * Non-player entities killed by the player
+     */
+    MOBS_KILLED,
+    
+    /**
+     * Ticks spent in water
+     */
+    TICKS_IN_WATER,
+    
+    /**
+     * Points of fire damage taken
+     */
+    FIRE_DAMAGE_TAKEN;
+    
+    /**
+     * Number of triggers, used to size counter arrays
+     */
+    public static final int COUNT = values().length;
+}
\ No newline at end of file
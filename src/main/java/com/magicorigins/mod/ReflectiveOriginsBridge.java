@@ -0,0 +1,162 @@
+package com.magicorigins.mod;
+
+import net.minecraft.core.Registry;
+import net.minecraft.resources.ResourceKey;
+import net.minecraft.resources.ResourceLocation;
+import net.minecraft.server.level.ServerPlayer;
+import net.minecraft.world.entity.Entity;
+import net.minecraftforge.common.util.LazyOptional;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.List;
+
+/**
+ * Origins bridge backed by the Origins (Forge) API
+ * All API classes and methods are looked up once in {@link #create()}; calls go through
+ * pre-resolved method handles so there is no per-call reflection
+ * 
+ * @author MagicOrigins Mod Team
+ * @version 1.0.0
+ */
+public class ReflectiveOriginsBridge implements OriginsBridge {
+    
+    /**
+     * Origins API class names
+     */
+    private static final String CONTAINER_CLASS = "io.github.edwinmindcraft.origins.api.capabilities.IOriginContainer";
+    private static final String REGISTRIES_CLASS = "io.github.edwinmindcraft.origins.api.registry.OriginsDynamicRegistries";
+    
+    /**
+     * The origin layer that receives the assigned origin
+     */
+    private static final ResourceLocation ORIGIN_LAYER = new ResourceLocation("origins", "origin");
+    
+    /**
+     * The Origins placeholder origin of a layer without a chosen origin
+     */
+    private static final ResourceLocation EMPTY_ORIGIN = new ResourceLocation("origins", "empty");
+    
+    /**
+     * IOriginContainer.get(Entity) returning a LazyOptional
+     */
+    private final MethodHandle getContainer;
+    
+    /**
+     * IOriginContainer.setOrigin(ResourceKey, ResourceKey)
+     */
+    private final MethodHandle setOrigin;
+    
+    /**
+     * IOriginContainer.synchronize()
+     */
+    private final MethodHandle synchronize;
+    
+    /**
+     * Registry key of the Origins origin registry
+     */
+    private final ResourceKey<Registry<Object>> originsRegistry;
+    
+    /**
+     * Resolved key of the origin layer
+     */
+    private final ResourceKey<Object> layerKey;
+    
+    private ReflectiveOriginsBridge(MethodHandle getContainer, MethodHandle setOrigin, MethodHandle synchronize,
+            ResourceKey<Registry<Object>> originsRegistry, ResourceKey<Object> layerKey) {
+        this.getContainer = getContainer;
+        this.setOrigin = setOrigin;
+        this.synchronize = synchronize;
+        this.originsRegistry = originsRegistry;
+        this.layerKey = layerKey;
+    }
+    
+    /**
+     * Resolves the Origins API
+     * 
+     * @return The bridge
+     * @throws ReflectiveOperationException If the expected API is not present
+     */
+    @SuppressWarnings("unchecked")
+    public static ReflectiveOriginsBridge create() throws ReflectiveOperationException {
+        MethodHandles.Lookup lookup = MethodHandles.publicLookup();
+        Class<?> containerClass = Class.forName(CONTAINER_CLASS);
+        Class<?> registriesClass = Class.forName(REGISTRIES_CLASS);
+        
+        MethodHandle getContainer = lookup.findStatic(containerClass, "get",
+            MethodType.methodType(LazyOptional.class, Entity.class));
+        MethodHandle setOrigin = lookup.findVirtual(containerClass, "setOrigin",
+            MethodType.methodType(void.class, ResourceKey.class, ResourceKey.class));
+        MethodHandle synchronize = lookup.findVirtual(containerClass, "synchronize",
+            MethodType.methodType(void.class));
+        
+        ResourceKey<Registry<Object>> layersRegistry =
+            (ResourceKey<Registry<Object>>) registriesClass.getField("LAYERS_REGISTRY").get(null);
+        ResourceKey<Registry<Object>> originsRegistry =
+            (ResourceKey<Registry<Object>>) registriesClass.getField("ORIGINS_REGISTRY").get(null);
+        
+        return new ReflectiveOriginsBridge(getContainer, setOrigin, synchronize, originsRegistry,
+            ResourceKey.create(layersRegistry, ORIGIN_LAYER));
+    }
+    
+    @Override
+    public String getName() {
+        return "origins";
+    }
+    
+    @Override
+    public void setOrigin(ServerPlayer player, Origin originType) {
+        setLayerOrigin(player, ResourceKey.create(originsRegistry, originType.getOriginsId()));
+    }
+    
+    @Override
+    public void clearOrigin(ServerPlayer player) {
+        setLayerOrigin(player, ResourceKey.create(originsRegistry, EMPTY_ORIGIN));
+    }
+    
+    /**
+     * Sets the origin of the player's origin layer
+     * 
+     * @param player The server player
+     * @param originKey Registry key of the origin
+     */
+    private void setLayerOrigin(ServerPlayer player, ResourceKey<Object> originKey) {
+        try {
+            Object container = container(player);
+            if (container != null) {
+                setOrigin.invoke(container, layerKey, originKey);
+            }
+        } catch (Throwable e) {
+            MagicOriginsMod.LOGGER.error("Failed to set Origins origin '{}' for player '{}': {}", 
+                originKey.location(), player.getGameProfile().getName(), e.getMessage());
+        }
+    }
+    
+    @Override
+    public void syncAll(List<ServerPlayer> players) {
+        for (ServerPlayer player : players) {
+            try {
+                Object container = container(player);
+                if (container != null) {
+                    synchronize.invoke(container);
+                }
+            } catch (Throwable e) {
+                MagicOriginsMod.LOGGER.error("Failed to synchronize Origins data for player '{}': {}", 
+                    player.getGameProfile().getName(), e.getMessage());
+            }
+        }
+    }
+    
+    /**
+     * Gets the Origins container of a player
+     * 
+     * @param player The server player
+     * @return The container, or null if the player has none
+     * @throws Throwable If the API call fails
+     */
+    private Object container(ServerPlayer player) throws Throwable {
+        LazyOptional<?> optional = (LazyOptional<?>) getContainer.invoke((Entity) player);
+        return optional.resolve().orElse(null);
+    }
+}
\ No newline at end of file
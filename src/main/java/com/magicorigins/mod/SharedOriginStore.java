@@ -0,0 +1,437 @@
+package com.magicorigins.mod;
+
+import net.minecraft.nbt.CompoundTag;
+import net.minecraft.nbt.NbtIo;
+import net.minecraft.server.level.ServerPlayer;
+import net.minecraftforge.event.server.ServerAboutToStartEvent;
+import net.minecraftforge.event.server.ServerStoppedEvent;
+import net.minecraftforge.eventbus.api.SubscribeEvent;
+import net.minecraftforge.fml.common.Mod;
+
+import java.io.FileNotFoundException;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.nio.file.attribute.FileTime;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Optional origin store shared by several servers behind one proxy
+ * Every assignment and reset is written to {@code <sharedStore.directory>/<uuid>.dat} through a temporary file
+ * and an atomic rename. Each server keeps a read-through cache of the entries and a watcher thread that
+ * reloads files changed by other servers as soon as the file system reports them, so logins only read the
+ * cache. On login the shared entry wins over the origin stored in the local player data.
+ * Disabled when no directory is configured
+ * 
+ * @author MagicOrigins Mod Team
+ * @version 1.0.0
+ */
+@Mod.EventBusSubscriber(modid = MagicOriginsMod.MOD_ID)
+public class SharedOriginStore {
+    
+    /**
+     * NBT keys of an entry file
+     */
+    private static final String ORIGIN_KEY = "origin";
+    private static final String UPDATED_KEY = "updated";
+    
+    /**
+     * Suffix of entry files; temporary files written by any server end differently and are ignored
+     */
+    private static final String FILE_SUFFIX = ".dat";
+    
+    /**
+     * Maximum time to wait for pending writes when the server stops
+     */
+    private static final long SHUTDOWN_TIMEOUT_SECONDS = 10L;
+    
+    /**
+     * Cached marker for players without an entry in the shared directory
+     */
+    private static final Entry ABSENT = new Entry(null, Long.MIN_VALUE);
+    
+    /**
+     * Cached entries by player, including {@link #ABSENT} markers
+     */
+    private static final ConcurrentHashMap<UUID, Entry> CACHE = new ConcurrentHashMap<>();
+    
+    /**
+     * Shared directory, or null if the store is disabled
+     */
+    private static volatile Path directory;
+    
+    /**
+     * Background writer and watcher of the open store
+     */
+    private static ExecutorService writer;
+    private static WatchService watchService;
+    private static Thread watcher;
+    
+    /**
+     * A player's shared origin state
+     * 
+     * @param origin The assigned origin, or null if the origin was reset
+     * @param updatedAt Time of the change in epoch milliseconds; newer entries replace older ones
+     */
+    public record Entry(Origin origin, long updatedAt) {
+    }
+    
+    /**
+     * Opens the store if a shared directory is configured
+     * 
+     * @param event The ServerAboutToStartEvent
+     */
+    @SubscribeEvent
+    public static void onServerAboutToStart(ServerAboutToStartEvent event) {
+        String configured = MagicOriginsConfig.sharedStoreDirectory;
+        if (!configured.isBlank()) {
+            open(Path.of(configured));
+        }
+    }
+    
+    /**
+     * Writes pending changes and closes the store once the server has stopped
+     * 
+     * @param event The ServerStoppedEvent
+     */
+    @SubscribeEvent
+    public static void onServerStopped(ServerStoppedEvent event) {
+        close();
+    }
+    
+    /**
+     * Opens the store on a directory, starting its writer and watcher threads
+     * 
+     * @param dir The shared directory
+     */
+    static synchronized void open(Path dir) {
+        if (directory != null) {
+            close();
+        }
+        
+        try {
+            Files.createDirectories(dir);
+            watchService = FileSystems.getDefault().newWatchService();
+            dir.register(watchService, StandardWatchEventKinds.ENTRY_CREATE, StandardWatchEventKinds.ENTRY_MODIFY,
+                StandardWatchEventKinds.ENTRY_DELETE);
+        } catch (IOException e) {
+            MagicOriginsMod.LOGGER.error("Failed to open shared origin store {}: {}", dir, e.getMessage());
+            return;
+        }
+        
+        writer = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "MagicOrigins Shared Store Writer");
+            thread.setDaemon(true);
+            return thread;
+        });
+        watcher = new Thread(() -> watch(dir, watchService), "MagicOrigins Shared Store Watcher");
+        watcher.setDaemon(true);
+        directory = dir;
+        watcher.start();
+        
+        MagicOriginsMod.LOGGER.info("Using shared origin store {}", dir);
+    }
+    
+    /**
+     * Waits for pending writes, stops the watcher and clears the cache
+     */
+    static synchronized void close() {
+        if (directory == null) {
+            return;
+        }
+        directory = null;
+        
+        writer.shutdown();
+        try {
+            if (!writer.awaitTermination(SHUTDOWN_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+                MagicOriginsMod.LOGGER.error("Timed out writing shared origin entries");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        
+        try {
+            watchService.close();
+        } catch (IOException e) {
+            MagicOriginsMod.LOGGER.warn("Failed to close shared origin store watcher: {}", e.getMessage());
+        }
+        
+        CACHE.clear();
+        writer = null;
+        watchService = null;
+        watcher = null;
+    }
+    
+    /**
+     * Checks if a shared directory is in use
+     * 
+     * @return true if the store is open
+     */
+    public static boolean isEnabled() {
+        return directory != null;
+    }
+    
+    /**
+     * Gets a player's shared entry, reading it from the directory on the first access
+     * Entries changed by other servers are kept current by the watcher
+     * 
+     * @param uuid The player's UUID
+     * @return The entry, or null if the store is disabled or has no entry for the player
+     */
+    public static Entry get(UUID uuid) {
+        Path dir = directory;
+        if (dir == null) {
+            return null;
+        }
+        
+        Entry entry = CACHE.get(uuid);
+        if (entry == null) {
+            ModMetrics.SHARED_STORE_READS.increment();
+            entry = readEntry(dir.resolve(uuid + FILE_SUFFIX));
+            Entry raced = CACHE.putIfAbsent(uuid, entry);
+            if (raced != null) {
+                entry = raced;
+            }
+        }
+        return entry != ABSENT ? entry : null;
+    }
+    
+    /**
+     * Records a player's new origin and writes it to the shared directory in the background
+     * Holds the same lock as {@link #close()}, so the writer cannot be shut down between the check and the submit
+     * 
+     * @param uuid The player's UUID
+     * @param origin The assigned origin, or null if the origin was reset
+     */
+    public static synchronized void publish(UUID uuid, Origin origin) {
+        Path dir = directory;
+        if (dir == null) {
+            return;
+        }
+        
+        Entry entry = new Entry(origin, System.currentTimeMillis());
+        CACHE.put(uuid, entry);
+        writer.execute(() -> {
+            try {
+                writeEntry(dir, uuid, entry);
+            } catch (IOException e) {
+                MagicOriginsMod.LOGGER.error("Failed to write shared origin for {}: {}", uuid, e.getMessage());
+                ModMetrics.SHARED_STORE_WRITE_FAILURES.increment();
+            }
+        });
+    }
+    
+    /**
+     * Brings a joining player's local origin in line with the shared store
+     * The shared entry replaces the local origin; a local assignment without a shared entry, for example
+     * from before the store was enabled, is published
+     * 
+     * @param player The server player
+     * @param persistentData The player's persistent data
+     * @return true if the local origin was replaced or removed
+     */
+    static boolean reconcile(ServerPlayer player, CompoundTag persistentData) {
+        if (directory == null) {
+            return false;
+        }
+        
+        UUID uuid = player.getUUID();
+        Origin local = OriginRegistry.read(persistentData, OriginAssignmentHandler.ORIGIN_NBT_KEY);
+        boolean localAssigned = persistentData.getBoolean(OriginAssignmentHandler.ORIGIN_ASSIGNED_KEY);
+        Entry shared = get(uuid);
+        
+        if (shared == null) {
+            if (local != null && localAssigned) {
+                publish(uuid, local);
+            }
+            return false;
+        }
+        
+        if (shared.origin() == null) {
+            if (local != null && localAssigned) {
+                persistentData.remove(OriginAssignmentHandler.ORIGIN_NBT_KEY);
+                persistentData.putBoolean(OriginAssignmentHandler.ORIGIN_ASSIGNED_KEY, false);
+                PlayerOriginManager.invalidateCachedOrigin(uuid);
+                MagicOriginsMod.LOGGER.info("Origin of '{}' was reset on another server", 
+                    player.getGameProfile().getName());
+                return true;
+            }
+        } else if (shared.origin() != local || !localAssigned) {
+            OriginRegistry.write(persistentData, OriginAssignmentHandler.ORIGIN_NBT_KEY, shared.origin());
+            persistentData.putBoolean(OriginAssignmentHandler.ORIGIN_ASSIGNED_KEY, true);
+            MagicOriginsMod.LOGGER.info("Adopted origin '{}' of '{}' from the shared store", 
+                shared.origin(), player.getGameProfile().getName());
+            return true;
+        }
+        return false;
+    }
+    
+    /**
+     * Gets the number of cached entries
+     * 
+     * @return Number of players with a cached entry or absence marker
+     */
+    public static int getCachedCount() {
+        return CACHE.size();
+    }
+    
+    /**
+     * Writes an entry file through a temporary file and an atomic rename
+     * Safe for several servers writing the same directory; the last rename wins
+     * 
+     * @param dir The shared directory
+     * @param uuid The player's UUID
+     * @param entry The entry to write
+     * @throws IOException If the file cannot be written
+     */
+    static void writeEntry(Path dir, UUID uuid, Entry entry) throws IOException {
+        CompoundTag tag = new CompoundTag();
+        if (entry.origin() != null) {
+            OriginRegistry.write(tag, ORIGIN_KEY, entry.origin());
+        }
+        tag.putLong(UPDATED_KEY, entry.updatedAt());
+        
+        Path temp = Files.createTempFile(dir, uuid.toString(), ".tmp");
+        try {
+            try (FileOutputStream out = new FileOutputStream(temp.toFile())) {
+                NbtIo.writeCompressed(tag, out);
+                out.getFD().sync();
+            }
+            Files.move(temp, dir.resolve(uuid + FILE_SUFFIX), StandardCopyOption.REPLACE_EXISTING,
+                StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+    
+    /**
+     * Reads an entry file
+     * 
+     * @return The entry, or {@link #ABSENT} if the file does not exist or cannot be read
+     */
+    private static Entry readEntry(Path file) {
+        try {
+            CompoundTag tag = NbtIo.readCompressed(file.toFile());
+            return new Entry(OriginRegistry.read(tag, ORIGIN_KEY), tag.getLong(UPDATED_KEY));
+        } catch (FileNotFoundException e) {
+            return ABSENT;
+        } catch (IOException e) {
+            MagicOriginsMod.LOGGER.error("Failed to read shared origin {}: {}", file.getFileName(), e.getMessage());
+            return ABSENT;
+        }
+    }
+    
+    /**
+     * Reloads an entry file changed on disk unless the cached entry is newer (watcher thread)
+     */
+    private static void refresh(Path dir, UUID uuid) {
+        Entry entry = readEntry(dir.resolve(uuid + FILE_SUFFIX));
+        Entry previous = CACHE.get(uuid);
+        if (entry == ABSENT) {
+            CACHE.remove(uuid);
+        } else if (previous == null || previous.updatedAt() < entry.updatedAt()) {
+            CACHE.put(uuid, entry);
+            if (previous != null) {
+                ModMetrics.SHARED_STORE_REMOTE_UPDATES.increment();
+            }
+        }
+    }
+    
+    /**
+     * Preloads all entries and applies change notifications until the store is closed (watcher thread)
+     * The full scan is repeated at the configured interval to pick up changes on file systems that do not
+     * report writes made by other hosts, and whenever notifications were lost
+     */
+    private static void watch(Path dir, WatchService service) {
+        Map<UUID, FileTime> scanned = new HashMap<>();
+        rescan(dir, scanned);
+        try {
+            while (true) {
+                int rescanSeconds = MagicOriginsConfig.sharedStoreRescanSeconds;
+                WatchKey key = rescanSeconds > 0 ? service.poll(rescanSeconds, TimeUnit.SECONDS) : service.take();
+                if (key == null) {
+                    rescan(dir, scanned);
+                    continue;
+                }
+                
+                for (WatchEvent<?> event : key.pollEvents()) {
+                    if (event.kind() == StandardWatchEventKinds.OVERFLOW) {
+                        rescan(dir, scanned);
+                        continue;
+                    }
+                    
+                    UUID uuid = parseUuid((Path) event.context());
+                    if (uuid != null) {
+                        refresh(dir, uuid);
+                    }
+                }
+                if (!key.reset()) {
+                    MagicOriginsMod.LOGGER.error("Shared origin store {} is no longer accessible", dir);
+                    return;
+                }
+            }
+        } catch (ClosedWatchServiceException | InterruptedException e) {
+            // Store closed
+        }
+    }
+    
+    /**
+     * Reloads every entry file whose modification time changed since the last scan (watcher thread)
+     */
+    private static void rescan(Path dir, Map<UUID, FileTime> scanned) {
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(dir, "*" + FILE_SUFFIX)) {
+            for (Path file : stream) {
+                UUID uuid = parseUuid(file.getFileName());
+                if (uuid == null) {
+                    continue;
+                }
+                
+                FileTime modified;
+                try {
+                    modified = Files.getLastModifiedTime(file);
+                } catch (NoSuchFileException e) {
+                    continue;
+                }
+                if (!modified.equals(scanned.put(uuid, modified))) {
+                    refresh(dir, uuid);
+                }
+            }
+        } catch (IOException e) {
+            MagicOriginsMod.LOGGER.error("Failed to scan shared origin store {}: {}", dir, e.getMessage());
+        }
+    }
+    
+    /**
+     * Parses the player UUID from an entry file name
+     * 
+     * @return The UUID, or null if the file is not an entry file
+     */
+    private static UUID parseUuid(Path fileName) {
+        String name = fileName.toString();
+        if (!name.endsWith(FILE_SUFFIX)) {
+            return null;
+        }
+        
+        try {
+            return UUID.fromString(name.substring(0, name.length() - FILE_SUFFIX.length()));
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+}
\ No newline at end of file
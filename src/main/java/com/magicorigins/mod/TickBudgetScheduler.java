@@ -0,0 +1,75 @@
+package com.magicorigins.mod;
+
+import net.minecraftforge.event.TickEvent;
+import net.minecraftforge.event.server.ServerStoppedEvent;
+import net.minecraftforge.eventbus.api.SubscribeEvent;
+import net.minecraftforge.fml.common.Mod;
+
+import java.util.ArrayDeque;
+
+/**
+ * Runs deferred server-thread work within a per-tick time budget
+ * Tasks run in submission order; at least one task runs per tick so the queue always drains
+ * 
+ * @author MagicOrigins Mod Team
+ * @version 1.0.0
+ */
+@Mod.EventBusSubscriber(modid = MagicOriginsMod.MOD_ID)
+public class TickBudgetScheduler {
+    
+    /**
+     * Tasks waiting to run, in submission order
+     */
+    private static final ArrayDeque<Runnable> QUEUE = new ArrayDeque<>();
+    
+    /**
+     * Queues a task to run on the server thread in a later tick
+     * Must be called from the server thread
+     * 
+     * @param task The task to run
+     */
+    public static void schedule(Runnable task) {
+        QUEUE.addLast(task);
+    }
+    
+    /**
+     * Gets the number of tasks waiting to run
+     * 
+     * @return Number of queued tasks
+     */
+    public static int getPendingCount() {
+        return QUEUE.size();
+    }
+    
+    /**
+     * Runs queued tasks at the end of each tick until the budget is used up
+     * 
+     * @param event The ServerTickEvent
+     */
+    @SubscribeEvent
+    public static void onServerTick(TickEvent.ServerTickEvent event) {
+        if (event.phase != TickEvent.Phase.END || QUEUE.isEmpty()) {
+            return;
+        }
+        
+        long deadline = System.nanoTime() + MagicOriginsConfig.tickBudgetNanos;
+        do {
+            Runnable task = QUEUE.pollFirst();
+            try {
+                task.run();
+            } catch (Exception e) {
+                MagicOriginsMod.LOGGER.error("Deferred task failed: {}", e.getMessage());
+            }
+        } while (!QUEUE.isEmpty() && System.nanoTime() - deadline < 0);
+    }
+    
+    /**
+     * Drops remaining tasks once the server has stopped
+     * 
+     * @param event The ServerStoppedEvent
+     */
+    @SubscribeEvent
+    public static void onServerStopped(ServerStoppedEvent event) {
+        QUEUE.clear();
+    }
+}
\ No newline at end of file
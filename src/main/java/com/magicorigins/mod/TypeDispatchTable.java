@@ -0,0 +1,84 @@
+package com.magicorigins.mod;
+
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+/**
+ * Immutable identity-keyed lookup table used to dispatch per-type handling
+ * Keys are compared by reference (for example registry singletons such as entity types),
+ * so a miss costs a single identity hash probe
+ * 
+ * @param <K> Key type
+ * @param <V> Value type
+ * 
+ * @author MagicOrigins Mod Team
+ * @version 1.0.0
+ */
+public final class TypeDispatchTable<K, V> {
+    
+    /**
+     * Shared empty table
+     */
+    private static final TypeDispatchTable<?, ?> EMPTY = new TypeDispatchTable<>(new IdentityHashMap<>());
+    
+    /**
+     * Backing identity map; never modified after construction
+     */
+    private final IdentityHashMap<K, V> table;
+    
+    private TypeDispatchTable(IdentityHashMap<K, V> table) {
+        this.table = table;
+    }
+    
+    /**
+     * Creates a table from the given entries
+     * 
+     * @param entries Entries to copy
+     * @param <K> Key type
+     * @param <V> Value type
+     * @return A new immutable table
+     */
+    public static <K, V> TypeDispatchTable<K, V> of(Map<? extends K, ? extends V> entries) {
+        return new TypeDispatchTable<>(new IdentityHashMap<>(entries));
+    }
+    
+    /**
+     * Gets the empty table
+     * 
+     * @param <K> Key type
+     * @param <V> Value type
+     * @return The shared empty table
+     */
+    @SuppressWarnings("unchecked")
+    public static <K, V> TypeDispatchTable<K, V> empty() {
+        return (TypeDispatchTable<K, V>) EMPTY;
+    }
+    
+    /**
+     * Gets the value for a key
+     * 
+     * @param key The key, compared by identity
+     * @return The value, or null if the key has no entry
+     */
+    public V get(K key) {
+        return table.get(key);
+    }
+    
+    /**
+     * Gets the number of entries
+     * 
+     * @return Number of keys with an entry
+     */
+    public int size() {
+        return table.size();
+    }
+    
+    /**
+     * Checks if the table has no entries
+     * 
+     * @return true if the table is empty
+     */
+    public boolean isEmpty() {
+        return table.isEmpty();
+    }
+}
\ No newline at end of file
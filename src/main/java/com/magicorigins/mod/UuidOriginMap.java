@@ -0,0 +1,141 @@
+package com.magicorigins.mod;
+
+import it.unimi.dsi.fastutil.HashCommon;
+
+import java.util.UUID;
+
+/**
+ * Open-addressing hash map from player UUID to origin
+ * Keys are stored as the two {@code long} halves of the UUID and values as origin ids, in three
+ * parallel primitive arrays, so an entry takes about 40 bytes at the default load factor and lookups
+ * neither box nor allocate. Filled once on the loading thread and then only read, which makes it
+ * safe to share once published through a volatile field
+ * 
+ * @author MagicOrigins Mod Team
+ * @version 1.0.0
+ */
+public final class UuidOriginMap {
+    
+    /**
+     * Empty map returned before any mappings are loaded
+     */
+    public static final UuidOriginMap EMPTY = new UuidOriginMap(0);
+    
+    /**
+     * Maximum fraction of occupied slots
+     */
+    private static final float LOAD_FACTOR = 0.5f;
+    
+    /**
+     * Most and least significant bits of the key in each slot; 0/0 (the nil UUID) marks a free slot
+     */
+    private final long[] mostBits;
+    private final long[] leastBits;
+    
+    /**
+     * Origin id of the entry in each slot
+     */
+    private final int[] originIds;
+    
+    /**
+     * Slot count minus one; the slot count is a power of two
+     */
+    private final int mask;
+    
+    /**
+     * Number of entries
+     */
+    private int size;
+    
+    /**
+     * Creates a map sized for a number of entries
+     * 
+     * @param expectedSize Number of entries that will be added
+     */
+    public UuidOriginMap(int expectedSize) {
+        int capacity = HashCommon.arraySize(Math.max(expectedSize, 1), LOAD_FACTOR);
+        this.mostBits = new long[capacity];
+        this.leastBits = new long[capacity];
+        this.originIds = new int[capacity];
+        this.mask = capacity - 1;
+    }
+    
+    /**
+     * Adds or replaces an entry; must not be called once the map is shared
+     * 
+     * @param uuid The player's UUID, not the nil UUID
+     * @param origin The player's origin
+     * @return The origin previously mapped to the UUID, or null if none
+     * @throws IllegalArgumentException If the UUID is the nil UUID
+     * @throws IllegalStateException If the map already holds its expected number of entries
+     */
+    public Origin put(UUID uuid, Origin origin) {
+        long most = uuid.getMostSignificantBits();
+        long least = uuid.getLeastSignificantBits();
+        if (most == 0L && least == 0L) {
+            throw new IllegalArgumentException("The nil UUID cannot be mapped");
+        }
+        
+        int slot = slot(most, least);
+        if (isFree(slot)) {
+            if ((size + 1) > (mask + 1) * LOAD_FACTOR) {
+                throw new IllegalStateException("UUID origin map is full");
+            }
+            mostBits[slot] = most;
+            leastBits[slot] = least;
+            originIds[slot] = origin.getId();
+            size++;
+            return null;
+        }
+        
+        Origin previous = OriginRegistry.byId(originIds[slot]);
+        originIds[slot] = origin.getId();
+        return previous;
+    }
+    
+    /**
+     * Gets the origin mapped to a UUID
+     * 
+     * @param uuid The player's UUID
+     * @return The mapped origin, or null if the UUID is not mapped
+     */
+    public Origin get(UUID uuid) {
+        return get(uuid.getMostSignificantBits(), uuid.getLeastSignificantBits());
+    }
+    
+    /**
+     * Gets the origin mapped to a UUID given as its two halves
+     * 
+     * @param most The most significant bits of the UUID
+     * @param least The least significant bits of the UUID
+     * @return The mapped origin, or null if the UUID is not mapped
+     */
+    public Origin get(long most, long least) {
+        int slot = slot(most, least);
+        return isFree(slot) ? null : OriginRegistry.byId(originIds[slot]);
+    }
+    
+    /**
+     * Gets the number of entries
+     * 
+     * @return Number of mapped UUIDs
+     */
+    public int size() {
+        return size;
+    }
+    
+    /**
+     * Finds the slot holding a key, or the free slot where it would be inserted
+     */
+    private int slot(long most, long least) {
+        int slot = (int) HashCommon.mix(most ^ least) & mask;
+        while (!isFree(slot) && (mostBits[slot] != most || leastBits[slot] != least)) {
+            slot = (slot + 1) & mask;
+        }
+        return slot;
+    }
+    
+    private boolean isFree(int slot) {
+        return mostBits[slot] == 0L && leastBits[slot] == 0L;
+    }
+}
\ No newline at end of file